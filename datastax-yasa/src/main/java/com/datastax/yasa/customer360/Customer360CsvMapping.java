@@ -0,0 +1,173 @@
+package com.datastax.yasa.customer360;
+
+import static com.datastax.yasa.customer360.Customer360GraphDao.*;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addV;
+
+import java.time.LocalDate;
+import java.util.function.ToIntFunction;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+
+import com.datastax.yasa.dse.utils.CsvRow;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Traversals creating a cluster, a customer and the edge between them from a line of the clusters CSV file.
+ * Column indexes are resolved once from the header, optional columns absent from the file are skipped without
+ * any lookup. Stateless once built, can be shared by parsing threads.
+ *
+ * @author DataStax evangelist team.
+ */
+public class Customer360CsvMapping {
+
+    /** Indexes of columns, -1 when not in the file. */
+    private final int clusterId;
+    private final int clusterSize;
+    private final int confidenceLevel;
+    private final int goldenCompanyName;
+    private final int goldenCompanyRegNo;
+    private final int goldenCustomerName;
+    private final int goldenCustomerType;
+    private final int goldenDisplayName;
+    private final int goldenDob;
+    private final int goldenFirstname;
+    private final int goldenSurname;
+    private final int cdSiExt;
+    private final int srcCustomerId;
+    private final int customerType;
+    private final int firstname;
+    private final int surname;
+    private final int companyRegNo;
+    private final int companyName;
+    private final int dob;
+
+    /**
+     * Resolve columns.
+     *
+     * @param columnIndex
+     *      index of a column name, negative if absent
+     */
+    public Customer360CsvMapping(ToIntFunction<String> columnIndex) {
+        clusterId          = columnIndex.applyAsInt(COL_cluster_id);
+        clusterSize        = columnIndex.applyAsInt(COL_cluster_size);
+        confidenceLevel    = columnIndex.applyAsInt(COL_confidence_level);
+        goldenCompanyName  = columnIndex.applyAsInt(COL_golden_company_name);
+        goldenCompanyRegNo = columnIndex.applyAsInt(COL_golden_company_reg_no);
+        goldenCustomerName = columnIndex.applyAsInt(COL_golden_customer_name);
+        goldenCustomerType = columnIndex.applyAsInt(COL_golden_customer_type);
+        goldenDisplayName  = columnIndex.applyAsInt(COL_golden_display_name);
+        goldenDob          = columnIndex.applyAsInt(COL_golden_dob);
+        goldenFirstname    = columnIndex.applyAsInt(COL_golden_firstname);
+        goldenSurname      = columnIndex.applyAsInt(COL_golden_surname);
+        cdSiExt            = columnIndex.applyAsInt(COL_cd_si_ext);
+        srcCustomerId      = columnIndex.applyAsInt(COL_src_customer_id);
+        customerType       = columnIndex.applyAsInt(COL_customer_type);
+        firstname          = columnIndex.applyAsInt(COL_firstname);
+        surname            = columnIndex.applyAsInt(COL_surname);
+        companyRegNo       = columnIndex.applyAsInt(COL_company_reg_no);
+        companyName        = columnIndex.applyAsInt(COL_company_name);
+        dob                = columnIndex.applyAsInt(COL_dob);
+        if (clusterId < 0 || srcCustomerId < 0) {
+            throw new IllegalArgumentException("Columns '" + COL_cluster_id + "' and '" + COL_src_customer_id + "' are required");
+        }
+    }
+
+    /**
+     * Identifier of the cluster of a line, lines of a cluster share its vertex.
+     *
+     * @param row
+     *      line of the file
+     * @return
+     *      cluster identifier
+     */
+    public String clusterId(CsvRow row) {
+        return row.get(clusterId);
+    }
+
+    /**
+     * Cluster vertex.
+     *
+     * @param row
+     *      line of the file
+     * @return
+     *      traversal adding the vertex
+     */
+    public GraphTraversal<Object, Vertex> clusterVertex(CsvRow row) {
+        GraphTraversal<Object, Vertex> clusterVertex = addV(VERTEX_CLUSTER)
+                .property(COL_cluster_id, row.get(clusterId))
+                .property(COL_cluster_size, row.get(clusterSize))
+                .property(COL_confidence_level, row.get(confidenceLevel));
+        property(clusterVertex, COL_golden_company_name, row, goldenCompanyName);
+        property(clusterVertex, COL_golden_company_reg_no, row, goldenCompanyRegNo);
+        property(clusterVertex, COL_golden_customer_name, row, goldenCustomerName);
+        property(clusterVertex, COL_golden_customer_type, row, goldenCustomerType);
+        property(clusterVertex, COL_golden_display_name, row, goldenDisplayName);
+        dateProperty(clusterVertex, COL_golden_dob, row, goldenDob);
+        property(clusterVertex, COL_golden_firstname, row, goldenFirstname);
+        property(clusterVertex, COL_golden_surname, row, goldenSurname);
+        return clusterVertex;
+    }
+
+    /**
+     * Customer vertex.
+     *
+     * @param row
+     *      line of the file
+     * @return
+     *      traversal adding the vertex
+     */
+    public GraphTraversal<Object, Vertex> customerVertex(CsvRow row) {
+        GraphTraversal<Object, Vertex> customerVertex = addV(VERTEX_CUSTOMER)
+                .property(COL_src_customer_id, row.get(srcCustomerId));
+        property(customerVertex, COL_cd_si_ext, row, cdSiExt);
+        property(customerVertex, COL_company_name, row, companyName);
+        property(customerVertex, COL_company_reg_no, row, companyRegNo);
+        property(customerVertex, COL_customer_type, row, customerType);
+        dateProperty(customerVertex, COL_dob, row, dob);
+        property(customerVertex, COL_firstname, row, firstname);
+        property(customerVertex, COL_surname, row, surname);
+        return customerVertex;
+    }
+
+    /**
+     * Edge from the cluster to the customer.
+     *
+     * @param row
+     *      line of the file
+     * @return
+     *      traversal adding the edge
+     */
+    public GraphTraversal<Object, Edge> clusterCustomerEdge(CsvRow row) {
+        return addE(EDGE_CONTAINS_CUSTOMER)
+                .from(DetachedVertex.build()
+                        .setId(ImmutableMap.of(COL_cluster_id, row.get(clusterId), "~label", VERTEX_CLUSTER))
+                        .setLabel(VERTEX_CLUSTER).create())
+                .to(DetachedVertex.build()
+                        .setId(ImmutableMap.of(COL_src_customer_id, row.get(srcCustomerId), "~label", VERTEX_CUSTOMER))
+                        .setLabel(VERTEX_CUSTOMER).create());
+    }
+
+    /**
+     * Optional column, set when in the file (and on the line).
+     */
+    private void property(GraphTraversal<Object, Vertex> vertex, String key, CsvRow row, int index) {
+        String value = row.get(index);
+        if (value != null) {
+            vertex.property(key, value);
+        }
+    }
+
+    /**
+     * Optional ISO date (yyyy-MM-dd), set when not empty.
+     */
+    private void dateProperty(GraphTraversal<Object, Vertex> vertex, String key, CsvRow row, int index) {
+        if (row.hasValue(index)) {
+            vertex.property(key, LocalDate.parse(row.get(index).trim()));
+        }
+    }
+
+}
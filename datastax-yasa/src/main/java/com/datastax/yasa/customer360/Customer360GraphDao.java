@@ -1,41 +1,48 @@
 package com.datastax.yasa.customer360;
 
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addV;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.coalesce;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
 
 
 import java.io.File;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.Date;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
+import com.datastax.driver.dse.DseSession;
 import com.datastax.driver.dse.graph.GraphNode;
-import com.datastax.driver.dse.graph.GraphResultSet;
 import com.datastax.driver.dse.graph.GraphStatement;
-import com.datastax.driver.dse.graph.SimpleGraphStatement;
 import com.datastax.dse.graph.api.DseGraph;
-import com.datastax.dse.graph.api.TraversalBatch;
+import com.datastax.yasa.dse.cache.GraphClusterCache;
+import com.datastax.yasa.dse.dao.GraphBatchWriter;
+import com.datastax.yasa.dse.dao.GraphBatchWriter.RowListener;
 import com.datastax.yasa.dse.dao.GraphDao;
+import com.datastax.yasa.dse.dto.LoadReport;
+import com.datastax.yasa.dse.utils.CsvRow;
+import com.datastax.yasa.dse.utils.LoadJournal;
+import com.datastax.yasa.dse.utils.LongHashSet;
+import com.datastax.yasa.dse.utils.MappedCsvReader;
+import com.datastax.yasa.dse.utils.MappedCsvReader.Range;
+import com.datastax.yasa.dse.utils.MappedCsvReader.RangeHandler;
+import com.datastax.yasa.ui.model.GraphEdge;
+import com.datastax.yasa.ui.model.GraphIds;
+import com.datastax.yasa.ui.model.GraphSink;
+import com.datastax.yasa.ui.model.GraphVertex;
 import com.datastax.yasa.ui.model.VizJsGraph;
-import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 
 /**
@@ -80,9 +87,82 @@ public class Customer360GraphDao extends GraphDao {
     public static final String COL_company_name             = "company_name";
     public static final String COL_dob                      = "dob";
     
-    // DATE
-    public static final String dob_date_format              = "yyyy-mm-dd";
-    public static final SimpleDateFormat dob_date_formatter = new SimpleDateFormat(dob_date_format);
+    // QUERIES, values are bound: scripts are compiled once by the server
+    private static final String QUERY_CLUSTER_BY_ID = "g.V().has('" + VERTEX_CLUSTER + "', '" + COL_cluster_id + "', clusterId)"
+                   + ".emit().repeat(both().simplePath())"
+                   + ".times(4).dedup()";
+    private static final String QUERY_CLUSTER       = "g.V().has('" + VERTEX_CLUSTER + "', '" + COL_cluster_id + "', clusterId)";
+    private static final String BINDING_CLUSTER_ID  = "clusterId";
+    
+    /** Graphs of clusters only change when data is loaded, they are kept in memory. */
+    @Value("${dse.graph.clusterCache.enabled: true}")
+    private boolean clusterCacheEnabled = true;
+    
+    /** Maximum number of vertices and edges of cached clusters. */
+    @Value("${dse.graph.clusterCache.maxWeight: 200000}")
+    private long clusterCacheMaxWeight = 200000;
+    
+    /** Time to live of a cached cluster. */
+    @Value("${dse.graph.clusterCache.ttlSeconds: 3600}")
+    private long clusterCacheTtlSeconds = 3600;
+    
+    /** Clusters are loaded with a bounded expansion (dse.graph.expansion.*), not an unbounded 4 hops traversal. */
+    @Value("${dse.graph.expansion.enabled: true}")
+    private boolean boundedExpansion = true;
+    
+    /** Number of CSV lines per batch when loading clusters. */
+    @Value("${dse.graph.load.batchSize: 100}")
+    private int loadBatchSize = 100;
+    
+    /** Batches executed at the same time when loading clusters. */
+    @Value("${dse.graph.load.maxInFlight: 8}")
+    private int loadMaxInFlight = 8;
+    
+    /** Threads parsing the CSV file when loading clusters, available processors if not positive. */
+    @Value("${dse.graph.load.parserThreads: 0}")
+    private int loadParserThreads = 0;
+    
+    /** Hashes of cluster ids written, following rows skip the cluster vertex (8 to 32 bytes each), beyond rows write it again. */
+    @Value("${dse.graph.load.clusterDedup.maxEntries: 4000000}")
+    private int loadClusterDedupMaxEntries = 4000000;
+    
+    /** Ranges of the file completely written are recorded in a journal, to resume a load. */
+    @Value("${dse.graph.load.checkpoint.enabled: true}")
+    private boolean loadCheckpointEnabled = true;
+    
+    /** Directory of journals, the temporary directory (java.io.tmpdir) if empty. */
+    @Value("${dse.graph.load.checkpoint.directory:}")
+    private String loadCheckpointDirectory = "";
+    
+    /** Bytes of the file per checkpoint, at most this much is loaded again when resuming. */
+    @Value("${dse.graph.load.checkpoint.rangeSize: 8388608}")
+    private long loadCheckpointRangeSize = 8388608;
+    
+    /** Graphs of clusters already loaded, null if disabled. */
+    private GraphClusterCache clusterCache;
+    
+    /**
+     * Default constructor.
+     */
+    public Customer360GraphDao() {}
+    
+    /**
+     * Allow explicit intialization for test purpose.
+     */
+    public Customer360GraphDao(DseSession dseSession) {
+        super(dseSession);
+        initializeClusterCache();
+    }
+    
+    /**
+     * Create cache of clusters when enabled.
+     */
+    @PostConstruct
+    protected void initializeClusterCache() {
+        if (clusterCacheEnabled) {
+            clusterCache = new GraphClusterCache(clusterCacheMaxWeight, clusterCacheTtlSeconds);
+        }
+    }
     
     /**
      * Create Graph.
@@ -93,101 +173,192 @@ public class Customer360GraphDao extends GraphDao {
     }
     
     /**
-     * Import Data into Graph using Batch Traversal API 
+     * Import Data into Graph, starting over.
+     * 
+     * @param csvFile
+     *      clusters and customers, one customer per line
+     * @param separator
+     *      column separator
+     * @return
+     *      rows written and failed
+     * @see #loadClustersAndCustomers(File, char, boolean)
      */
-    public void loadClustersAndCustomers(File csvFile, char separator) {
+    public LoadReport loadClustersAndCustomers(File csvFile, char separator) {
+        return loadClustersAndCustomers(csvFile, separator, false);
+    }
+    
+    /**
+     * Import Data into Graph using Batch Traversal API: the file is parsed in parallel (memory-mapped ranges) and
+     * lines are sent by batches of {@link #loadBatchSize}, with at most {@link #loadMaxInFlight} batches executing
+     * at the same time. Lines that cannot be parsed and batches in error are counted in the report, the load goes on.
+     * 
+     * A cluster vertex is written until a batch holding it succeeds: lines read afterwards only write the customer
+     * and the edge (cluster vertices are upserts by id, the vertex is then known to exist). Lines read while the
+     * first batch is pending, or after it failed, write the vertex again. Hashes (64 bits) of cluster ids written
+     * are kept in a bounded set of {@link #loadClusterDedupMaxEntries} entries, when full the vertex of clusters
+     * not yet written is written with every line as before. Two cluster ids with the same hash are unlikely but
+     * possible (about n&sup2; / 2&sup6;&sup5; for n clusters), the vertex of the second cluster would then not be written.
+     * 
+     * With checkpoints, the file is cut in ranges of {@link #loadCheckpointRangeSize} bytes and a range is recorded
+     * in the journal of the file (in {@link #loadCheckpointDirectory}) once all its lines have been written. When resuming, recorded ranges
+     * are skipped and the others loaded again: vertices and edges are upserts, lines already written are not
+     * duplicated.
+     * 
+     * @param csvFile
+     *      clusters and customers, one customer per line
+     * @param separator
+     *      column separator
+     * @param resume
+     *      skip ranges completed by a previous load of the same file, requires checkpoints
+     * @return
+     *      rows written, failed and skipped
+     */
+    public LoadReport loadClustersAndCustomers(File csvFile, char separator, boolean resume) {
+        Assert.isTrue(!resume || loadCheckpointEnabled, "Resuming a load requires checkpoints, see 'dse.graph.load.checkpoint.enabled'");
+        long rangeSize = loadCheckpointEnabled ? loadCheckpointRangeSize : 0;
+        MappedCsvReader reader = new MappedCsvReader(csvFile, separator, loadParserThreads, rangeSize);
+        Customer360CsvMapping mapping = new Customer360CsvMapping(reader::columnIndex);
+        LongHashSet clustersWritten = new LongHashSet(1024, loadClusterDedupMaxEntries);
+        AtomicLong deduplicated = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        LoadJournal journal = loadCheckpointEnabled ? new LoadJournal(journalFile(csvFile), csvFile, rangeSize, resume) : null;
+        // Journal is written and forced by listeners of batches, one thread off the driver I/O threads
+        ExecutorService completions = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("graph-load-completion-%d").build());
+        GraphBatchWriter writer = new GraphBatchWriter(dseSession, GRAPHNAME_C360, loadBatchSize, loadMaxInFlight, completions);
         try {
-            CsvMapper mapper = new CsvMapper();
-            CsvSchema schema = CsvSchema.emptySchema().withHeader().withColumnSeparator(separator);
-            MappingIterator<Map<String, String>> iterator = mapper.readerFor(Map.class).with(schema).readValues(csvFile);
-            long start = System.currentTimeMillis();
-            TraversalBatch batch = DseGraph.batch();
-            while (iterator.hasNext()) {
-               Map <String, String > csvLine = iterator.next();
-               batch.add(parseClusterVertexFromCsvLine(csvLine));
-               batch.add(parseCustomerVertexFromCsvLine(csvLine));
-               batch.add(parseClusterCustomerEdgesFromCsvLine(csvLine));
-            }
-            dseSession.executeGraph(batch.asGraphStatement().setGraphName(GRAPHNAME_C360));
-            LOGGER.info("Executed in {} millis", System.currentTimeMillis() - start);
-            System.out.println("END");
-        } catch (Exception e) {
+            reader.readRanges(range -> {
+                long completedLines = (journal == null) ? -1 : journal.completedLines(range.getStart(), range.getEnd());
+                if (completedLines >= 0) {
+                    skipped.addAndGet(completedLines);
+                    return null;
+                }
+                RangeCheckpoint checkpoint = (journal == null) ? null : new RangeCheckpoint(journal, range);
+                return new RangeHandler() {
+                    @Override
+                    public void accept(CsvRow row) {
+                        try {
+                            long clusterHash = GraphIds.hash(mapping.clusterId(row));
+                            boolean clusterWritten;
+                            synchronized (clustersWritten) {
+                                clusterWritten = clustersWritten.contains(clusterHash);
+                            }
+                            RowListener checkpointListener = (checkpoint == null) ? null : checkpoint.rowAdded();
+                            if (!clusterWritten) {
+                                // Cluster is only known to exist once a batch holding its vertex succeeded
+                                RowListener listener = written -> {
+                                    if (written) {
+                                        synchronized (clustersWritten) {
+                                            clustersWritten.add(clusterHash);
+                                        }
+                                    }
+                                    if (checkpointListener != null) {
+                                        checkpointListener.completed(written);
+                                    }
+                                };
+                                writer.addRow(listener, mapping.clusterVertex(row), mapping.customerVertex(row), mapping.clusterCustomerEdge(row));
+                            } else {
+                                writer.addRow(checkpointListener, mapping.customerVertex(row), mapping.clusterCustomerEdge(row));
+                                deduplicated.incrementAndGet();
+                            }
+                        } catch (DateTimeParseException e) {
+                            writer.addFailedRow("Invalid line " + row.get(0) + " : " + e.getMessage());
+                        }
+                    }
+                    @Override
+                    public void parsed(long lines) {
+                        if (checkpoint != null) {
+                            checkpoint.parsed(lines);
+                        }
+                    }
+                };
+            });
+        } catch (RuntimeException e) {
+            writer.finish();
+            completions.shutdown();
+            close(journal);
+            invalidateClusters(GRAPHNAME_C360);
             throw new IllegalStateException("Cannot execute import ", e);
         }
+        LoadReport report = writer.finish();
+        completions.shutdown();
+        close(journal);
+        report.setVerticesDeduplicated(deduplicated.get());
+        report.setRowsSkipped(skipped.get());
+        if (clustersWritten.isFull()) {
+            LOGGER.warn("More than {} clusters, vertices of the following ones have been written with each line", loadClusterDedupMaxEntries);
+        }
+        invalidateClusters(GRAPHNAME_C360);
+        return report;
     }
     
-    private GraphTraversal<Object, Edge> parseClusterCustomerEdgesFromCsvLine(Map<String, String> csvLine) {
-        return addE(EDGE_CONTAINS_CUSTOMER)
-                .from(DetachedVertex.build()
-                        .setId(ImmutableMap.of(COL_cluster_id, csvLine.get(COL_cluster_id), "~label", VERTEX_CLUSTER))
-                        .setLabel(VERTEX_CLUSTER).create())
-                .to(DetachedVertex.build()
-                        .setId(ImmutableMap.of(COL_src_customer_id, csvLine.get(COL_src_customer_id) , "~label", VERTEX_CUSTOMER))
-                        .setLabel(VERTEX_CUSTOMER).create());
+    /**
+     * Journal of the loads of a file, never next to the file (data directory may be read only): the name holds
+     * a hash of the path of the file, files with the same name in different directories have their own journal.
+     */
+    private File journalFile(File csvFile) {
+        File directory = new File(loadCheckpointDirectory.trim().isEmpty()
+                ? System.getProperty("java.io.tmpdir")
+                : loadCheckpointDirectory.trim());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Cannot create directory of journals " + directory);
+        }
+        String pathHash = Integer.toHexString(csvFile.getAbsolutePath().hashCode());
+        return new File(directory, csvFile.getName() + "-" + pathHash + ".journal");
     }
     
-    private GraphTraversal<Object, Vertex> parseCustomerVertexFromCsvLine(Map<String, String> csvLine)
-    throws ParseException {
-        GraphTraversal<Object, Vertex> customerVertex = addV(VERTEX_CUSTOMER)
-                .property(COL_src_customer_id, csvLine.get(COL_src_customer_id));
-        if (csvLine.containsKey(COL_cd_si_ext)) {
-            customerVertex.property(COL_cd_si_ext, csvLine.get(COL_cd_si_ext));
-        }
-        if (csvLine.containsKey(COL_company_name)) {
-            customerVertex.property(COL_company_name, csvLine.get(COL_company_name));
-        }        
-        if (csvLine.containsKey(COL_company_reg_no)) {
-            customerVertex.property(COL_company_reg_no, csvLine.get(COL_company_reg_no));
-        }
-        if (csvLine.containsKey(COL_customer_type)) {
-            customerVertex.property(COL_customer_type, csvLine.get(COL_customer_type));
-        }
-        if (csvLine.containsKey(COL_dob) && StringUtils.hasLength(csvLine.get(COL_dob))) {
-            Date javaUtilDate = dob_date_formatter.parse(csvLine.get(COL_dob));
-            LocalDate localDate = javaUtilDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-            customerVertex.property(COL_dob, localDate);
-        }
-        if (csvLine.containsKey(COL_firstname)) {
-            customerVertex.property(COL_firstname, csvLine.get(COL_firstname));
-        }
-        if (csvLine.containsKey(COL_surname)) {
-            customerVertex.property(COL_surname, csvLine.get(COL_surname));
+    private void close(LoadJournal journal) {
+        if (journal != null) {
+            journal.close();
         }
-        return customerVertex;
     }
     
-    private GraphTraversal<Object, Vertex> parseClusterVertexFromCsvLine(Map<String, String> csvLine)
-    throws ParseException {
-        GraphTraversal<Object, Vertex> clusterVertex = addV(VERTEX_CLUSTER).property(COL_cluster_id, csvLine.get(COL_cluster_id))
-                .property(COL_cluster_size, csvLine.get(COL_cluster_size))
-                .property(COL_confidence_level, csvLine.get(COL_confidence_level));
-        if (csvLine.containsKey(COL_golden_company_name)) {
-            clusterVertex.property(COL_golden_company_name, csvLine.get(COL_golden_company_name));
-        }
-        if (csvLine.containsKey(COL_golden_company_reg_no)) {
-            clusterVertex.property(COL_golden_company_reg_no, csvLine.get(COL_golden_company_reg_no));
-        }
-        if (csvLine.containsKey(COL_golden_customer_name)) {
-            clusterVertex.property(COL_golden_customer_name, csvLine.get(COL_golden_customer_name));
-        }
-        if (csvLine.containsKey(COL_golden_customer_type)) {
-            clusterVertex.property(COL_golden_customer_type, csvLine.get(COL_golden_customer_type));
-        }
-        if (csvLine.containsKey(COL_golden_display_name)) {
-            clusterVertex.property(COL_golden_display_name, csvLine.get(COL_golden_display_name));
+    /**
+     * Rows of a range pending in batches: the range is recorded in the journal when it has been parsed and all its
+     * rows have been written, never if one of its batches failed (loaded again on resume).
+     */
+    private static final class RangeCheckpoint {
+        
+        /** Target journal. */
+        private final LoadJournal journal;
+        
+        /** Range of the file. */
+        private final Range range;
+        
+        /** Rows not completed, plus one until the range is parsed. */
+        private final AtomicLong pending = new AtomicLong(1);
+        
+        /** A batch of the range failed. */
+        private volatile boolean failed = false;
+        
+        /** Lines of the range. */
+        private volatile long lines;
+        
+        private RangeCheckpoint(LoadJournal journal, Range range) {
+            this.journal = journal;
+            this.range   = range;
         }
-        if (csvLine.containsKey(COL_golden_dob) && StringUtils.hasLength(csvLine.get(COL_golden_dob))) {
-            Date javaUtilDate = dob_date_formatter.parse(csvLine.get(COL_golden_dob));
-            LocalDate localDate = javaUtilDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-            clusterVertex.property(COL_golden_dob, localDate);
+        
+        private RowListener rowAdded() {
+            pending.incrementAndGet();
+            return written -> {
+                if (!written) {
+                    failed = true;
+                }
+                release();
+            };
         }
-        if (csvLine.containsKey(COL_golden_firstname)) {
-            clusterVertex.property(COL_golden_firstname, csvLine.get(COL_golden_firstname));
+        
+        private void parsed(long lines) {
+            this.lines = lines;
+            release();
         }
-        if (csvLine.containsKey(COL_golden_surname)) {
-            clusterVertex.property(COL_golden_surname, csvLine.get(COL_golden_surname));
+        
+        private void release() {
+            if (pending.decrementAndGet() == 0 && !failed) {
+                journal.complete(range.getStart(), range.getEnd(), lines);
+            }
         }
-        return clusterVertex;
     }
     
     /**
@@ -198,18 +369,20 @@ public class Customer360GraphDao extends GraphDao {
      * @return
      *      list of cluster ids.
      */
-    @SuppressWarnings("unchecked")
     public Map < String, String > listClusterIds(String graphName) {
         Assert.hasText(graphName, "'graphName' is required here");
-        final String queryGetClusterdIds = "g.V().hasLabel('cluster').valueMap('cluster_id', 'golden_display_name');";   
-        GraphStatement graphStatement = new SimpleGraphStatement(queryGetClusterdIds).setGraphName(graphName);
-        GraphResultSet gResult = dseSession.executeGraph(graphStatement);
+        // Sent as bytecode, display name falls back to the identifier
+        GraphStatement graphStatement = DseGraph.statementFromTraversal(DseGraph.traversal()
+                .V().hasLabel(VERTEX_CLUSTER)
+                .project(COL_cluster_id, COL_golden_display_name)
+                .by(values(COL_cluster_id))
+                .by(coalesce(values(COL_golden_display_name), values(COL_cluster_id))))
+                .setGraphName(graphName);
         // no paging here guys, can be better for sure
         Map < String, String > mapOfClusters = new HashMap<>();
-        for (GraphNode graphNode : gResult) {
-            LinkedHashMap<String, Object> map = graphNode.as(LinkedHashMap.class);
-            mapOfClusters.put(map.get("golden_display_name").toString(),
-                              map.get("cluster_id").toString());
+        for (GraphNode graphNode : dseSession.executeGraph(graphStatement)) {
+            mapOfClusters.put(graphNode.get(COL_golden_display_name).asString(),
+                              graphNode.get(COL_cluster_id).asString());
         }
         return mapOfClusters;
     }
@@ -225,13 +398,124 @@ public class Customer360GraphDao extends GraphDao {
      *      edges and vertices to be displayed in UI>
      */
     public VizJsGraph loadClusterByClusterId(String graphName, String clusterId) {
+        long generation = clusterGeneration(graphName);
+        VizJsGraph cached = cachedCluster(graphName, clusterId);
+        if (cached != null) {
+            return cached;
+        }
+        if (boundedExpansion) {
+            return cacheCluster(graphName, clusterId, generation, expandGraph(graphName, QUERY_CLUSTER, clusterBindings(graphName, clusterId)));
+        }
+        return cacheCluster(graphName, clusterId, generation, executeGremlinQuery(graphName, QUERY_CLUSTER_BY_ID, clusterBindings(graphName, clusterId), true));
+    }
+    
+    /**
+     * Same as {@link #loadClusterByClusterId(String, String)} without blocking.
+     * 
+     * @param graphName
+     *      current GraphName
+     * @param clusterId
+     *      current cluster identifier
+     * @return
+     *      future on edges and vertices to be displayed in UI
+     */
+    public CompletableFuture < VizJsGraph > loadClusterByClusterIdAsync(String graphName, String clusterId) {
+        long generation = clusterGeneration(graphName);
+        VizJsGraph cached = cachedCluster(graphName, clusterId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture < VizJsGraph > cluster = boundedExpansion ?
+                expandGraphAsync(graphName, QUERY_CLUSTER, clusterBindings(graphName, clusterId)) :
+                executeGremlinQueryAsync(graphName, QUERY_CLUSTER_BY_ID, clusterBindings(graphName, clusterId), true);
+        return cluster.thenApply(graph -> cacheCluster(graphName, clusterId, generation, graph));
+    }
+    
+    /**
+     * Same as {@link #loadClusterByClusterId(String, String)}, elements are sent to the sink as they are read.
+     * 
+     * @param graphName
+     *      current GraphName
+     * @param clusterId
+     *      current cluster identifier
+     * @param sink
+     *      target for vertices and edges
+     */
+    public void loadClusterByClusterId(String graphName, String clusterId, GraphSink sink) {
+        long generation = clusterGeneration(graphName);
+        VizJsGraph cached = cachedCluster(graphName, clusterId);
+        if (cached == null && boundedExpansion) {
+            // Expansion is bounded, the graph is built before being written
+            cached = cacheCluster(graphName, clusterId, generation, expandGraph(graphName, QUERY_CLUSTER, clusterBindings(graphName, clusterId)));
+        }
+        if (cached != null) {
+            cached.getNodes().forEach(sink::addVertex);
+            cached.getEdges().forEach(sink::addEdge);
+            return;
+        }
+        if (clusterCache == null) {
+            executeGremlinQuery(graphName, QUERY_CLUSTER_BY_ID, clusterBindings(graphName, clusterId), true, sink);
+            return;
+        }
+        // Elements are still streamed, a copy is cached once the whole cluster has been read
+        VizJsGraph graph = new VizJsGraph();
+        executeGremlinQuery(graphName, QUERY_CLUSTER_BY_ID, clusterBindings(graphName, clusterId), true, new GraphSink() {
+            @Override
+            public GraphSink addVertex(GraphVertex vertex) {
+                graph.addVertex(vertex);
+                sink.addVertex(vertex);
+                return this;
+            }
+            @Override
+            public GraphSink addEdge(GraphEdge edge) {
+                graph.addEdge(edge);
+                sink.addEdge(edge);
+                return this;
+            }
+        });
+        cacheCluster(graphName, clusterId, generation, graph);
+    }
+    
+    /**
+     * Remove cached clusters of a graph, to be called when data of the graph changed.
+     * 
+     * @param graphName
+     *      current GraphName
+     */
+    public void invalidateClusters(String graphName) {
+        if (clusterCache != null) {
+            LOGGER.info("Invalidate cached clusters of graph '{}'", graphName);
+            clusterCache.invalidate(graphName);
+        }
+    }
+    
+    /**
+     * Counters of the cache of clusters.
+     * 
+     * @return
+     *      size, hits, misses and evictions (empty if the cache is disabled)
+     */
+    public Map < String, Long > getClusterCacheStatistics() {
+        return (clusterCache == null) ? new HashMap<>() : clusterCache.getStatistics();
+    }
+    
+    private VizJsGraph cachedCluster(String graphName, String clusterId) {
         Assert.hasText(graphName, "'graphName' is required here");
         Assert.hasText(clusterId, "'clusterId' is required here");
+        return (clusterCache == null) ? null : clusterCache.get(graphName, clusterId);
+    }
+    
+    private long clusterGeneration(String graphName) {
+        return (clusterCache == null) ? 0 : clusterCache.generation(graphName);
+    }
+    
+    private VizJsGraph cacheCluster(String graphName, String clusterId, long generation, VizJsGraph graph) {
+        return (clusterCache == null) ? graph : clusterCache.put(graphName, clusterId, generation, graph);
+    }
+    
+    private Map < String, Object > clusterBindings(String graphName, String clusterId) {
         LOGGER.info("Load cluster '{}' on graph '{}'", clusterId, graphName);
-        String querySearchForCluster = "g.V().has('cluster', 'cluster_id', '" + clusterId + "')"
-                                          + ".emit().repeat(both().simplePath())"
-                                          + ".times(4).dedup();";
-        return executeGremlinQuery(graphName, querySearchForCluster, true);
+        return Collections.singletonMap(BINDING_CLUSTER_ID, clusterId);
     }
     
 }
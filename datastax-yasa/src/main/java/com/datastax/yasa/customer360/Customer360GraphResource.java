@@ -4,6 +4,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,8 +14,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.datastax.yasa.ui.model.VizJsGraph;
+import com.datastax.yasa.ui.model.VizJsGraphWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/v1/c360")
@@ -26,17 +30,40 @@ public class Customer360GraphResource {
     @Autowired
     protected Customer360GraphDao dao;
     
-    @RequestMapping(value = "/clusters", method = GET, produces = APPLICATION_JSON_VALUE)
+    @Autowired
+    protected ObjectMapper jsonMapper;
+    
+    @RequestMapping(value = "/{graphName}/clusters", method = GET, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<Map < String, String > > listClusters(@PathVariable(value = "graphName") String graphName) {
         LOGGER.info("List cluster ids in graph {}", graphName);
         return new ResponseEntity<Map < String, String > >(dao.listClusterIds(graphName), HttpStatus.ACCEPTED);
     }
 
+    /**
+     * Counters of the cache of clusters graphs.
+     */
+    @RequestMapping(value = "/cache", method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map < String, Long > > clusterCacheStatistics() {
+        return new ResponseEntity<Map < String, Long > >(dao.getClusterCacheStatistics(), HttpStatus.OK);
+    }
+
     @RequestMapping(value = "/{graphName}/clusters/{clusterid}", method = GET, produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<VizJsGraph> loadclusterById(@PathVariable(value = "graphName") String graphName,
+    public CompletableFuture<ResponseEntity<VizJsGraph>> loadclusterById(@PathVariable(value = "graphName") String graphName,
             @PathVariable(value = "clusterid") String clusterid) {
         LOGGER.info("Local graph for cluster {} on graph {}", clusterid, graphName);
-        return new ResponseEntity<VizJsGraph>(dao.loadClusterByClusterId(graphName, clusterid), HttpStatus.OK);
+        return dao.loadClusterByClusterIdAsync(graphName, clusterid)
+                  .thenApply(graph -> new ResponseEntity<VizJsGraph>(graph, HttpStatus.OK));
+    }
+    
+    @RequestMapping(value = "/{graphName}/clusters/{clusterid}/stream", method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamClusterById(@PathVariable(value = "graphName") String graphName,
+            @PathVariable(value = "clusterid") String clusterid) {
+        LOGGER.info("Stream graph for cluster {} on graph {}", clusterid, graphName);
+        return new ResponseEntity<StreamingResponseBody>(out -> {
+            VizJsGraphWriter writer = new VizJsGraphWriter(jsonMapper.getFactory().createGenerator(out));
+            dao.loadClusterByClusterId(graphName, clusterid, writer);
+            writer.finish();
+        }, HttpStatus.OK);
     }
     
 }
@@ -0,0 +1,185 @@
+package com.datastax.yasa.dse.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.yasa.dse.dto.TableColumn;
+
+/**
+ * Columns definitions of tables, read from the driver {@link com.datastax.driver.core.Metadata}
+ * (no query to the cluster) and evicted when the driver notifies a schema change.
+ *
+ * @author DataStax evangelist team.
+ */
+public class ColumnMetadataCache extends SchemaChangeListenerBase {
+
+    /** Internal logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnMetadataCache.class);
+
+    /** Sorted columns per keyspace.table, with the metadata they were read from. */
+    private final ConcurrentMap< String, CachedColumns > columns = new ConcurrentHashMap<>();
+
+    /** Cluster holding metadata. */
+    private final Cluster cluster;
+
+    /**
+     * Constructor with cluster.
+     *
+     * @param cluster
+     *      cluster metadata are read from
+     */
+    public ColumnMetadataCache(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Start listening for schema changes.
+     */
+    public ColumnMetadataCache register() {
+        cluster.register(this);
+        return this;
+    }
+
+    /**
+     * Stop listening for schema changes.
+     */
+    public void unregister() {
+        cluster.unregister(this);
+        columns.clear();
+    }
+
+    /**
+     * Columns of a table, partition key first then clustering columns then others sorted by name.
+     *
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @return
+     *      columns by name, empty if table does not exist
+     */
+    public LinkedHashMap< String, TableColumn > getColumns(String keyspace, String table) {
+        KeyspaceMetadata ksm = (keyspace == null) ? null : cluster.getMetadata().getKeyspace(keyspace);
+        TableMetadata    tbm = (ksm == null || table == null) ? null : ksm.getTable(table);
+        if (tbm == null) {
+            return new LinkedHashMap<>();
+        }
+        // Metadata objects are replaced when the schema is refreshed: columns read from another instance are stale
+        CachedColumns cached = columns.compute(key(ksm.getName(), tbm.getName()), 
+                (k, previous) -> (previous != null && previous.table == tbm) ? previous : new CachedColumns(tbm, loadColumns(tbm)));
+        return new LinkedHashMap<>(cached.columns);
+    }
+
+    /**
+     * Build columns from table metadata.
+     */
+    private LinkedHashMap< String, TableColumn > loadColumns(TableMetadata tbm) {
+        LinkedHashMap<String, TableColumn > mapOfColumns = new LinkedHashMap<>();
+        LOGGER.debug("Loading columns of {}.{} from cluster metadata", tbm.getKeyspace().getName(), tbm.getName());
+        List < TableColumn > results = new ArrayList<>();
+        for (ColumnMetadata column : tbm.getColumns()) {
+            int partitionKeyIndex = tbm.getPartitionKey().indexOf(column);
+            int clusteringIndex   = tbm.getClusteringColumns().indexOf(column);
+            TableColumn tc = new TableColumn();
+            tc.setName(column.getName());
+            tc.setType(column.getType().toString());
+            tc.setPartitionKey(partitionKeyIndex >= 0);
+            tc.setClusteringColumn(clusteringIndex >= 0);
+            tc.setPosition(partitionKeyIndex >= 0 ? partitionKeyIndex : clusteringIndex);
+            results.add(tc);
+        }
+        Collections.sort(results);
+        results.stream().forEach(col -> mapOfColumns.put(col.getName(), col));
+        return mapOfColumns;
+    }
+
+    /**
+     * Columns of a table and the metadata they were read from.
+     */
+    private static final class CachedColumns {
+        
+        /** Metadata of the table. */
+        private final TableMetadata table;
+        
+        /** Sorted columns. */
+        private final LinkedHashMap<String, TableColumn> columns;
+        
+        private CachedColumns(TableMetadata table, LinkedHashMap<String, TableColumn> columns) {
+            this.table   = table;
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * Evict a table.
+     */
+    private void evict(TableMetadata table) {
+        LOGGER.debug("Evicting columns of {}.{}", table.getKeyspace().getName(), table.getName());
+        columns.remove(key(table.getKeyspace().getName(), table.getName()));
+    }
+
+    /**
+     * Evict all tables of a keyspace.
+     */
+    private void evict(KeyspaceMetadata keyspace) {
+        LOGGER.debug("Evicting columns of keyspace {}", keyspace.getName());
+        String prefix = key(keyspace.getName(), "");
+        columns.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Key in the cache, names as stored in metadata (internal form): quoted names differing by case are distinct.
+     */
+    private String key(String keyspace, String table) {
+        return keyspace + "." + table;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableAdded(TableMetadata table) {
+        evict(table);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableRemoved(TableMetadata table) {
+        evict(table);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableChanged(TableMetadata current, TableMetadata previous) {
+        evict(current);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+        evict(keyspace);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceAdded(KeyspaceMetadata keyspace) {
+        evict(keyspace);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onUnregister(Cluster cluster) {
+        columns.clear();
+    }
+
+}
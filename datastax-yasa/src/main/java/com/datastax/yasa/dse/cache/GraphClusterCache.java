@@ -0,0 +1,192 @@
+package com.datastax.yasa.dse.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.datastax.yasa.ui.model.VizJsGraph;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Graphs of clusters already loaded, keyed by graph name and cluster id. Bounded by weight (number of vertices
+ * and edges of cached graphs) and expired after a time to live, entries of a graph are invalidated when data
+ * is loaded into it. A cluster read before an invalidation of its graph is not cached: callers read the
+ * {@link #generation(String)} of the graph before their query and pass it to {@link #put(String, String, long, VizJsGraph)}.
+ *
+ * Cached graphs are shared between requests and must not be modified. As with {@link PreparedStatementCache}
+ * two threads missing the same cluster at the same time will both load it.
+ *
+ * @author DataStax evangelist team.
+ */
+public class GraphClusterCache {
+
+    /** Maximum number of vertices and edges cached. */
+    private final long maxWeight;
+
+    /** Graphs per cluster. */
+    private final Cache < ClusterKey, VizJsGraph > graphs;
+
+    /** Generation of each graph, incremented when its clusters are invalidated. */
+    private final ConcurrentMap < String, AtomicLong > generations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with bounds.
+     *
+     * @param maxWeight
+     *      maximum number of vertices and edges kept
+     * @param ttlSeconds
+     *      time to live of a graph after it is loaded
+     */
+    public GraphClusterCache(long maxWeight, long ttlSeconds) {
+        this.maxWeight = maxWeight;
+        this.graphs    = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((ClusterKey key, VizJsGraph graph) -> 1 + graph.getNodes().size() + graph.getEdges().size())
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Graph of a cluster if cached.
+     *
+     * @param graphName
+     *      graph name
+     * @param clusterId
+     *      cluster identifier
+     * @return
+     *      cached graph or null
+     */
+    public VizJsGraph get(String graphName, String clusterId) {
+        return graphs.getIfPresent(new ClusterKey(graphName, clusterId));
+    }
+
+    /**
+     * Cache graph of a cluster.
+     *
+     * @param graphName
+     *      graph name
+     * @param clusterId
+     *      cluster identifier
+     * @param graph
+     *      graph loaded for the cluster
+     * @return
+     *      the graph
+     */
+    public VizJsGraph put(String graphName, String clusterId, VizJsGraph graph) {
+        graphs.put(new ClusterKey(graphName, clusterId), graph);
+        return graph;
+    }
+
+    /**
+     * Cache graph of a cluster unless clusters of the graph were invalidated since it was read.
+     *
+     * @param graphName
+     *      graph name
+     * @param clusterId
+     *      cluster identifier
+     * @param generation
+     *      generation of the graph read before loading the cluster
+     * @param graph
+     *      graph loaded for the cluster
+     * @return
+     *      the graph
+     */
+    public VizJsGraph put(String graphName, String clusterId, long generation, VizJsGraph graph) {
+        if (generation(graphName) != generation) {
+            return graph;
+        }
+        ClusterKey key = new ClusterKey(graphName, clusterId);
+        graphs.put(key, graph);
+        // Invalidated while it was put
+        if (generation(graphName) != generation) {
+            graphs.asMap().remove(key, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * Current generation of a graph, to be read before loading a cluster.
+     *
+     * @param graphName
+     *      graph name
+     * @return
+     *      generation
+     */
+    public long generation(String graphName) {
+        return generations.computeIfAbsent(graphName, name -> new AtomicLong()).get();
+    }
+
+    /**
+     * Remove clusters of a graph, its data changed. Clusters being read are not cached.
+     *
+     * @param graphName
+     *      graph name
+     */
+    public void invalidate(String graphName) {
+        generations.computeIfAbsent(graphName, name -> new AtomicLong()).incrementAndGet();
+        graphs.asMap().keySet().removeIf(key -> key.graphName.equals(graphName));
+    }
+
+    /**
+     * Remove all graphs.
+     */
+    public void clear() {
+        graphs.invalidateAll();
+    }
+
+    /**
+     * Counters and size.
+     *
+     * @return
+     *      statistics for the UI
+     */
+    public Map < String, Long > getStatistics() {
+        CacheStats stats = graphs.stats();
+        Map < String, Long > statistics = new LinkedHashMap<>();
+        statistics.put("size",      graphs.size());
+        statistics.put("maxWeight", maxWeight);
+        statistics.put("hits",      stats.hitCount());
+        statistics.put("misses",    stats.missCount());
+        statistics.put("evictions", stats.evictionCount());
+        return statistics;
+    }
+
+    /**
+     * Graph name and cluster id.
+     */
+    private static final class ClusterKey {
+
+        private final String graphName;
+
+        private final String clusterId;
+
+        private ClusterKey(String graphName, String clusterId) {
+            this.graphName = graphName;
+            this.clusterId = clusterId;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ClusterKey)) {
+                return false;
+            }
+            ClusterKey other = (ClusterKey) obj;
+            return graphName.equals(other.graphName) && clusterId.equals(other.clusterId);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(graphName, clusterId);
+        }
+    }
+
+}
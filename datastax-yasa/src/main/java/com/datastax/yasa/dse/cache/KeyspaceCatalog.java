@@ -0,0 +1,192 @@
+package com.datastax.yasa.dse.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.TableMetadata;
+
+/**
+ * Keyspaces and tables, sorted for the UI, as an immutable snapshot. Snapshot is rebuilt from the driver
+ * {@link com.datastax.driver.core.Metadata} when a schema change is notified and swapped atomically:
+ * readers never wait for a refresh and never query the cluster.
+ *
+ * @author DataStax evangelist team.
+ */
+public class KeyspaceCatalog extends SchemaChangeListenerBase {
+
+    /** Internal logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyspaceCatalog.class);
+
+    /** Keys to sort keyspaces. */
+    public  static final String KEYSPACES_ADMIN    = "ADMIN";
+    public  static final String KEYSPACES_USER     = "USER";
+
+    /** Cluster holding metadata. */
+    private final Cluster cluster;
+
+    /** Current snapshot. */
+    private final AtomicReference < Snapshot > snapshot = new AtomicReference<>(new Snapshot());
+
+    /**
+     * Constructor with cluster.
+     *
+     * @param cluster
+     *      cluster metadata are read from
+     */
+    public KeyspaceCatalog(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Start listening for schema changes and build first snapshot.
+     */
+    public KeyspaceCatalog register() {
+        cluster.register(this);
+        refresh();
+        return this;
+    }
+
+    /**
+     * Stop listening for schema changes.
+     */
+    public void unregister() {
+        cluster.unregister(this);
+    }
+
+    /**
+     * Current snapshot, never null.
+     *
+     * @return
+     *      keyspaces and tables
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Rebuild the snapshot, writers are serialized so that an older view never replaces a newer one.
+     */
+    public synchronized void refresh() {
+        long top = System.currentTimeMillis();
+        snapshot.set(new Snapshot(cluster.getMetadata().getKeyspaces()));
+        LOGGER.debug("Keyspace catalog refreshed in {} millis", System.currentTimeMillis() - top);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceAdded(KeyspaceMetadata keyspace) {
+        refresh();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+        refresh();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceChanged(KeyspaceMetadata current, KeyspaceMetadata previous) {
+        refresh();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableAdded(TableMetadata table) {
+        refresh();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableRemoved(TableMetadata table) {
+        refresh();
+    }
+
+    /**
+     * Immutable view of keyspaces (ADMIN/USER, graph keyspaces excluded) and their tables.
+     */
+    public static final class Snapshot {
+
+        /** Keyspaces per kind. */
+        private final Map < String, SortedSet<String> > keyspaces;
+
+        /** Tables names per keyspace. */
+        private final Map < String, List<String> > tables;
+
+        /**
+         * Empty snapshot.
+         */
+        private Snapshot() {
+            this(Collections.emptyList());
+        }
+
+        /**
+         * Build from metadata.
+         *
+         * @param keyspacesMetadata
+         *      all keyspaces of the cluster
+         */
+        private Snapshot(List < KeyspaceMetadata > keyspacesMetadata) {
+            TreeSet<String> adminKeyspaces = new TreeSet<>();
+            TreeSet<String> userKeyspaces  = new TreeSet<>();
+            Map < String, List<String> > tablesMap = new HashMap<>();
+            for (KeyspaceMetadata ksm : keyspacesMetadata) {
+                boolean graphKeyspace = ksm.getReplication().keySet().stream().anyMatch(key -> key.contains("Graph"));
+                if (!graphKeyspace) {
+                    String keyspace = ksm.getName();
+                    if (keyspace.startsWith("dse_")    ||
+                        keyspace.startsWith("system") ||
+                        keyspace.startsWith("solr_admin") ||
+                        "dsefs".equals(keyspace) ||
+                        "HiveMetaStore".equals(keyspace)) {
+                        adminKeyspaces.add(keyspace);
+                    } else {
+                        userKeyspaces.add(keyspace);
+                    }
+                }
+                tablesMap.put(ksm.getName(), Collections.unmodifiableList(ksm.getTables().stream()
+                        .map(TableMetadata::getName).sorted().collect(Collectors.toList())));
+            }
+            Map < String, SortedSet<String> > keyspacesMap = new HashMap<>();
+            keyspacesMap.put(KEYSPACES_ADMIN, Collections.unmodifiableSortedSet(adminKeyspaces));
+            keyspacesMap.put(KEYSPACES_USER,  Collections.unmodifiableSortedSet(userKeyspaces));
+            this.keyspaces = Collections.unmodifiableMap(keyspacesMap);
+            this.tables    = Collections.unmodifiableMap(tablesMap);
+        }
+
+        /**
+         * Keyspaces sorted for the UI.
+         *
+         * @return
+         *      keyspaces names for keys {@link #KEYSPACES_ADMIN} and {@link #KEYSPACES_USER}
+         */
+        public Map<String, SortedSet<String>> getKeyspaces() {
+            return keyspaces;
+        }
+
+        /**
+         * Tables of a keyspace.
+         *
+         * @param keyspace
+         *      keyspace name
+         * @return
+         *      sorted table names, empty if keyspace does not exist
+         */
+        public List<String> getTables(String keyspace) {
+            return tables.getOrDefault(keyspace, Collections.emptyList());
+        }
+    }
+
+}
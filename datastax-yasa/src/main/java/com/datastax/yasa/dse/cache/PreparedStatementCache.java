@@ -0,0 +1,177 @@
+package com.datastax.yasa.dse.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.TableMetadata;
+
+/**
+ * Size bounded LRU of {@link PreparedStatement} keyed by normalized CQL text, with hit/miss counters.
+ *
+ * Prepare is done outside of the lock: two threads missing the same query at the same time will both
+ * prepare it, which is harmless (same statement id on the server).
+ *
+ * Statements keep the result metadata of the schema they were prepared with: the cache is cleared when the driver
+ * notifies a change of a table or a keyspace (statements are not tied to their tables, all are prepared again).
+ *
+ * @author DataStax evangelist team.
+ */
+public class PreparedStatementCache extends SchemaChangeListenerBase {
+
+    /** Internal logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    /** Counters. */
+    private final AtomicLong hits      = new AtomicLong();
+    private final AtomicLong misses    = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /** Cluster notifying schema changes. */
+    private final Cluster cluster;
+
+    /** Maximum number of statements. */
+    private final int maxSize;
+
+    /** Statements in access order. */
+    private final LinkedHashMap < String, PreparedStatement > statements;
+
+    /**
+     * Constructor with cluster and size.
+     *
+     * @param cluster
+     *      cluster notifying schema changes
+     * @param maxSize
+     *      maximum number of statements kept
+     */
+    public PreparedStatementCache(Cluster cluster, int maxSize) {
+        this.cluster    = cluster;
+        this.maxSize    = maxSize;
+        this.statements = new LinkedHashMap< String, PreparedStatement >(16, 0.75f, true) {
+            private static final long serialVersionUID = -4526431185284957530L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                boolean evict = size() > PreparedStatementCache.this.maxSize;
+                if (evict) evictions.incrementAndGet();
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Start listening for schema changes.
+     */
+    public PreparedStatementCache register() {
+        cluster.register(this);
+        return this;
+    }
+
+    /**
+     * Stop listening for schema changes.
+     */
+    public void unregister() {
+        cluster.unregister(this);
+        clear();
+    }
+
+    /**
+     * Retrieve statement from the cache or prepare it.
+     *
+     * @param cql
+     *      normalized cql query
+     * @param preparer
+     *      how to prepare the statement
+     * @return
+     *      prepared statement
+     */
+    public PreparedStatement get(String cql, Function<String, PreparedStatement> preparer) {
+        PreparedStatement ps;
+        synchronized (statements) {
+            ps = statements.get(cql);
+        }
+        if (ps != null) {
+            hits.incrementAndGet();
+            return ps;
+        }
+        misses.incrementAndGet();
+        ps = preparer.apply(cql);
+        synchronized (statements) {
+            statements.put(cql, ps);
+        }
+        return ps;
+    }
+
+    /**
+     * Count queries executed without preparation as they could not be normalized, prepared or bound.
+     */
+    public void fallback() {
+        fallbacks.incrementAndGet();
+    }
+
+    /**
+     * Remove all statements.
+     */
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    /**
+     * Counters and size.
+     *
+     * @return
+     *      statistics for the UI
+     */
+    public Map < String, Long > getStatistics() {
+        Map < String, Long > stats = new LinkedHashMap<>();
+        synchronized (statements) {
+            stats.put("size", (long) statements.size());
+        }
+        stats.put("maxSize",   (long) maxSize);
+        stats.put("hits",      hits.get());
+        stats.put("misses",    misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("fallbacks", fallbacks.get());
+        return stats;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableChanged(TableMetadata current, TableMetadata previous) {
+        evictAll("table " + current.getKeyspace().getName() + "." + current.getName() + " changed");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTableRemoved(TableMetadata table) {
+        evictAll("table " + table.getKeyspace().getName() + "." + table.getName() + " removed");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceChanged(KeyspaceMetadata current, KeyspaceMetadata previous) {
+        evictAll("keyspace " + current.getName() + " changed");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+        evictAll("keyspace " + keyspace.getName() + " removed");
+    }
+
+    private void evictAll(String reason) {
+        LOGGER.debug("Clearing prepared statements, {}", reason);
+        clear();
+    }
+
+}
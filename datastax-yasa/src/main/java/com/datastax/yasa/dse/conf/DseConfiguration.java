@@ -3,7 +3,11 @@ package com.datastax.yasa.dse.conf;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -12,6 +16,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.codahale.metrics.MetricRegistry;
 import com.datastax.driver.core.AuthProvider;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.QueryOptions;
@@ -27,9 +32,11 @@ import com.datastax.driver.mapping.MappingManager;
 import com.datastax.driver.mapping.PropertyMapper;
 import com.datastax.driver.mapping.PropertyTransienceStrategy;
 import com.datastax.yasa.dse.utils.BlobToStringCodec;
+import com.datastax.yasa.dse.utils.RequestLatencyTracker;
 import com.evanlennick.retry4j.CallExecutor;
 import com.evanlennick.retry4j.config.RetryConfig;
 import com.evanlennick.retry4j.config.RetryConfigBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Connectivity to DSE (cassandra, graph, search, analytics).
@@ -78,6 +85,22 @@ public class DseConfiguration {
     @Value("${dse.retry.delayBetweenTries: 2}")
     private int delayBetweenTries = 2;
     
+    // -- Metrics --
+    
+    @Value("${dse.metrics.enabled: true}")
+    private boolean metricsEnabled = true;
+    
+    @Value("${dse.metrics.jmx: false}")
+    private boolean metricsJmx = false;
+    
+    // -- Async --
+    
+    @Value("${dse.async.threads: 8}")
+    private int asyncThreads = 8;
+    
+    @Value("${dse.async.queueSize: 1000}")
+    private int asyncQueueSize = 1000;
+    
     @Bean
     public DseSession dseSession() {
         long top = System.currentTimeMillis();
@@ -112,8 +135,12 @@ public class DseConfiguration {
         options.setConsistencyLevel(ConsistencyLevel.QUORUM);
         options.setSerialConsistencyLevel(ConsistencyLevel.LOCAL_SERIAL);
         clusterConfig.withQueryOptions(options);
-        clusterConfig.withoutJMXReporting();
-        clusterConfig.withoutMetrics();
+        if (!metricsEnabled) {
+            clusterConfig.withoutMetrics();
+        }
+        if (!metricsEnabled || !metricsJmx) {
+            clusterConfig.withoutJMXReporting();
+        }
         clusterConfig.withReconnectionPolicy(new ConstantReconnectionPolicy(2000));
         clusterConfig.getConfiguration().getCodecRegistry().register(new BlobToStringCodec());
          
@@ -169,4 +196,40 @@ public class DseConfiguration {
         return new MappingManager(session, configuration);
     }
     
+    /**
+     * Metrics of the application: latencies by type of request (requests.cql, requests.graph, requests.schema)
+     * and metrics of the driver (driver.*). Empty when metrics are disabled.
+     *
+     * @param session
+     *      current dse session.
+     * @return
+     *      registry
+     */
+    @Bean
+    public MetricRegistry dseMetricRegistry(DseSession session) {
+        MetricRegistry registry = new MetricRegistry();
+        if (metricsEnabled) {
+            LOGGER.info("Driver metrics enabled (JMX reporting '{}')", metricsJmx);
+            registry.register("driver", session.getCluster().getMetrics().getRegistry());
+            session.getCluster().register(new RequestLatencyTracker(registry));
+        }
+        return registry;
+    }
+    
+    /**
+     * Results of asynchronous queries are mapped on this pool and not on the driver I/O threads. Pool
+     * and queue are bounded, when full new tasks are rejected (future completes exceptionally).
+     *
+     * @return
+     *      executor for result mapping
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService dseResultMappingExecutor() {
+        LOGGER.info("Result mapping executor with {} threads and queue of {}", asyncThreads, asyncQueueSize);
+        return new ThreadPoolExecutor(asyncThreads, asyncThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueSize),
+                new ThreadFactoryBuilder().setNameFormat("dse-mapping-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
 }
@@ -1,34 +1,51 @@
 package com.datastax.yasa.dse.dao;
 
-import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
-import static com.datastax.driver.core.querybuilder.QueryBuilder.select;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.TableMetadata;
-import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.exceptions.PagingStateException;
 import com.datastax.driver.dse.DseSession;
 import com.datastax.driver.mapping.MappingManager;
+import com.datastax.yasa.dse.cache.ColumnMetadataCache;
+import com.datastax.yasa.dse.cache.KeyspaceCatalog;
+import com.datastax.yasa.dse.cache.PreparedStatementCache;
+import com.datastax.yasa.dse.dto.ResultListPage;
 import com.datastax.yasa.dse.dto.TableColumn;
+import com.datastax.yasa.dse.utils.CqlNormalizer;
+import com.datastax.yasa.dse.utils.CqlNormalizer.NormalizedQuery;
+import com.datastax.yasa.dse.utils.DseUtils;
 
 /**
  * DAO to work with Cassandra
@@ -39,8 +56,8 @@ import com.datastax.yasa.dse.dto.TableColumn;
 public class CassandraDao {
     
     /** Keys to sort keyspaces. */
-    public  static final String KEYSPACES_ADMIN    = "ADMIN";
-    public  static final String KEYSPACES_USER     = "USER";
+    public  static final String KEYSPACES_ADMIN    = KeyspaceCatalog.KEYSPACES_ADMIN;
+    public  static final String KEYSPACES_USER     = KeyspaceCatalog.KEYSPACES_USER;
     
     /** Loger for that class. */
     protected Logger LOGGER = LoggerFactory.getLogger(getClass());
@@ -53,8 +70,27 @@ public class CassandraDao {
     @Autowired
     protected MappingManager mappingManager;
     
+    /** Results of asynchronous queries are mapped here, not on driver I/O threads. */
+    @Autowired
+    @Qualifier("dseResultMappingExecutor")
+    protected Executor mappingExecutor;
+    
     /** Get precise informations on column cannot retrieve from ColumnDefinitions objects. */
-    private PreparedStatement selectColumnsStatement;
+    private ColumnMetadataCache columnMetadataCache;
+    
+    /** Keyspaces and tables, refreshed on schema changes. */
+    private KeyspaceCatalog keyspaceCatalog;
+    
+    /** Prepare ad-hoc queries, literals are extracted as bind markers. */
+    @Value("${dse.cassandra.autoPrepare.enabled: false}")
+    private boolean autoPrepare = false;
+    
+    /** Number of prepared statements kept for ad-hoc queries. */
+    @Value("${dse.cassandra.autoPrepare.maxSize: 500}")
+    private int autoPrepareMaxSize = 500;
+    
+    /** Prepared statements for ad-hoc queries. */
+    private PreparedStatementCache preparedStatementCache;
     
     /**
      * Default constructor.
@@ -69,52 +105,36 @@ public class CassandraDao {
     public CassandraDao(DseSession dseSession) {
         this.dseSession     = dseSession;
         this.mappingManager = new MappingManager(dseSession);
+        this.mappingExecutor = ForkJoinPool.commonPool();
         initialize();
     }
     
     /** {@inheritDoc} */
     @PostConstruct
     protected void initialize() {
-        selectColumnsStatement = dseSession.prepare(
-                select("column_name","clustering_order","kind","position","type")
-                .from("system_schema", "columns")
-                .where(eq("keyspace_name", QueryBuilder.bindMarker()))
-                .and(eq("table_name", QueryBuilder.bindMarker())));
+        columnMetadataCache = new ColumnMetadataCache(dseSession.getCluster()).register();
+        keyspaceCatalog     = new KeyspaceCatalog(dseSession.getCluster()).register();
+        preparedStatementCache = new PreparedStatementCache(dseSession.getCluster(), autoPrepareMaxSize).register();
     }
     
     /**
-     * List keyspaces, sorted for the UI.
-     * 
-     * Note : dseSession.getCluster().getMetadata().getKeyspaces() is nice but does not fit expected
-     * filtering Graph/NotGraph Admin/User.
+     * Stop listening for schema changes.
+     */
+    @PreDestroy
+    protected void destroy() {
+        columnMetadataCache.unregister();
+        keyspaceCatalog.unregister();
+        preparedStatementCache.unregister();
+    }
+    
+    /**
+     * List keyspaces, sorted for the UI, from the catalog (no query executed).
      * 
      * @return
+     *      keyspaces names for keys {@link #KEYSPACES_ADMIN} and {@link #KEYSPACES_USER}
      */
-    public Map <String, TreeSet<String>> listCassandraKeyspacesNames() {
-        Map < String, TreeSet<String> > keyspaces = new HashMap<>();
-        keyspaces.put(KEYSPACES_ADMIN, new TreeSet<>());
-        keyspaces.put(KEYSPACES_USER, new TreeSet<>());
-        ResultSet rs = dseSession.execute(select().all().from("system_schema", "keyspaces").getQueryString());
-        for (Row row : rs) {
-            boolean ok = true;
-            Iterator<String> iter = row.getMap("replication", String.class, String.class).keySet().iterator();
-            while(ok && iter.hasNext()) { 
-                ok = !iter.next().contains("Graph");
-            }
-            if (ok) {
-                String keyspace = row.getString("keyspace_name");
-                if (keyspace.startsWith("dse_")    || 
-                    keyspace.startsWith("system") || 
-                    keyspace.startsWith("solr_admin") ||  
-                    "dsefs".equals(keyspace) || 
-                    "HiveMetaStore".equals(keyspace)) {
-                    keyspaces.get(KEYSPACES_ADMIN).add(keyspace);
-                } else {
-                    keyspaces.get(KEYSPACES_USER).add(keyspace);
-                }
-            }
-        }
-        return keyspaces;
+    public Map <String, SortedSet<String>> listCassandraKeyspacesNames() {
+        return keyspaceCatalog.getSnapshot().getKeyspaces();
     }
     
     /**
@@ -126,30 +146,37 @@ public class CassandraDao {
      *      list of tables
      */
     public Stream < String > listTablesNamesByKeySpace(String keyspace) {
-        return dseSession.getCluster().getMetadata().getKeyspace(keyspace)
-                         .getTables().stream().map(TableMetadata::getName);
+        return keyspaceCatalog.getSnapshot().getTables(keyspace).stream();
     }
     
+    /**
+     * List columns for a table with their kind and position, served from memory and
+     * refreshed on schema changes.
+     * 
+     * @param keySpace
+     *      target keyspace
+     * @param tableName
+     *      target table
+     * @return
+     *      columns sorted for the UI
+     */
     public LinkedHashMap< String, TableColumn > listColumnsFull(String keySpace, String tableName) {
-        ResultSet rs = dseSession.execute(selectColumnsStatement.bind()
-                                    .setString("keyspace_name", keySpace)
-                                    .setString("table_name", tableName));
-        List < TableColumn > results = new ArrayList<>();
-        for (Row row : rs.all()) {
-            String kind = row.getString("kind");
-            TableColumn tc = new TableColumn();
-            tc.setPartitionKey("partition_key".equalsIgnoreCase(kind));
-            tc.setClusteringColumn("clustering".equalsIgnoreCase(kind));
-            tc.setName(row.getString("column_name"));
-            tc.setPosition(row.getInt("position"));
-            tc.setType(row.getString("type"));
-            results.add(tc);
-        }
-        
-        Collections.sort(results);
-        LinkedHashMap<String, TableColumn > mapOfColumns = new LinkedHashMap<>();
-        results.stream().forEach(col -> mapOfColumns.put(col.getName(), col));
-        return mapOfColumns;
+        return columnMetadataCache.getColumns(keySpace, tableName);
+    }
+    
+    /**
+     * Same as {@link #listColumnsFull(String, String)} to be composed with other asynchronous calls,
+     * columns are served from memory and the future is already completed.
+     * 
+     * @param keySpace
+     *      target keyspace
+     * @param tableName
+     *      target table
+     * @return
+     *      future on columns sorted for the UI
+     */
+    public CompletableFuture < LinkedHashMap< String, TableColumn > > listColumnsFullAsync(String keySpace, String tableName) {
+        return CompletableFuture.completedFuture(listColumnsFull(keySpace, tableName));
     }
     
     /**
@@ -176,7 +203,163 @@ public class CassandraDao {
      * @return
      */
     public ResultSet executeCQLQuery(String cqlQuery) {
-        return dseSession.execute(cqlQuery);
+        return dseSession.execute(buildCQLStatement(cqlQuery));
+    }
+    
+    /**
+     * Execute a user query fetching a single page, the driver will not fetch next pages
+     * as long as you do not iterate beyond {@link ResultSet#getAvailableWithoutFetching()}.
+     *
+     * @param cqlQuery
+     *      query coming from the ui/user
+     * @param pageSize
+     *      number of rows to fetch for the page
+     * @param pagingState
+     *      resume token provided by the previous page (optional)
+     * @return
+     *      result set positioned on the requested page
+     */
+    public ResultSet executeCQLQuery(String cqlQuery, int pageSize, String pagingState) {
+        return executeCQLQuery(cqlQuery, pageSize, pagingState, false);
+    }
+    
+    /**
+     * Same as {@link #executeCQLQuery(String, int, String)}, tracing can be enabled to record in 'system_traces'
+     * what the coordinator and replicas did, retrieved with {@link ExecutionInfo#getQueryTrace()}. Tracing
+     * is expensive on the cluster and should only be asked for ad-hoc queries.
+     *
+     * @param cqlQuery
+     *      query coming from the ui/user
+     * @param pageSize
+     *      number of rows to fetch for the page
+     * @param pagingState
+     *      resume token provided by the previous page (optional)
+     * @param trace
+     *      enable tracing of the query
+     * @return
+     *      result set positioned on the requested page
+     */
+    public ResultSet executeCQLQuery(String cqlQuery, int pageSize, String pagingState, boolean trace) {
+        Statement statement = buildCQLStatement(cqlQuery, pageSize, pagingState);
+        if (trace) {
+            statement.enableTracing();
+        }
+        return dseSession.execute(statement);
+    }
+    
+    /**
+     * Same as {@link #executeCQLQuery(String)} without blocking.
+     *
+     * @param cqlQuery
+     *      query coming from the ui/user
+     * @return
+     *      future on the result set
+     */
+    public CompletableFuture < ResultSet > executeCQLQueryAsync(String cqlQuery) {
+        Assert.hasText(cqlQuery, "'cqlQuery' is required here");
+        return DseUtils.buildCompletableFuture(dseSession.executeAsync(buildCQLStatement(cqlQuery)));
+    }
+    
+    /**
+     * Same as {@link #executeCQLQuery(String, int, String)} without blocking, used to prefetch
+     * next page while the current one is consumed.
+     *
+     * @param cqlQuery
+     *      query coming from the ui/user
+     * @param pageSize
+     *      number of rows to fetch for the page
+     * @param pagingState
+     *      resume token provided by the previous page (optional)
+     * @return
+     *      future on the requested page
+     */
+    public CompletableFuture < ResultSet > executeCQLQueryAsync(String cqlQuery, int pageSize, String pagingState) {
+        return DseUtils.buildCompletableFuture(dseSession.executeAsync(buildCQLStatement(cqlQuery, pageSize, pagingState)));
+    }
+    
+    /**
+     * Fetch a single page without blocking, rows are mapped on the mapping executor.
+     *
+     * @param cqlQuery
+     *      query coming from the ui/user
+     * @param pageSize
+     *      number of rows to fetch for the page
+     * @param pagingState
+     *      resume token provided by the previous page (optional)
+     * @param rowMapper
+     *      how to map each row
+     * @return
+     *      future on the mapped page
+     */
+    public < T > CompletableFuture < ResultListPage< T > > executeCQLQueryPageAsync(
+            String cqlQuery, int pageSize, String pagingState, Function< Row, T > rowMapper) {
+        return executeCQLQueryAsync(cqlQuery, pageSize, pagingState)
+                .thenApplyAsync(rs -> new ResultListPage<>(rs, rowMapper), mappingExecutor);
+    }
+    
+    /**
+     * Build statement with fetch size and paging state.
+     */
+    private Statement buildCQLStatement(String cqlQuery, int pageSize, String pagingState) {
+        Assert.hasText(cqlQuery, "'cqlQuery' is required here");
+        Assert.isTrue(pageSize > 0, "'pageSize' must be positive");
+        Statement statement = buildCQLStatement(cqlQuery).setFetchSize(pageSize);
+        if (StringUtils.hasText(pagingState)) {
+            try {
+                statement.setPagingState(PagingState.fromString(pagingState));
+            } catch(PagingStateException pse) {
+                throw new IllegalArgumentException("Invalid paging state for query " + cqlQuery, pse);
+            }
+        }
+        return statement;
+    }
+    
+    /**
+     * When auto prepare is enabled, queries with the same shape share a prepared statement and literals
+     * are bound (partition key is then known for token aware routing). Query is sent as is when it cannot
+     * be normalized, prepared or bound.
+     */
+    private Statement buildCQLStatement(String cqlQuery) {
+        if (autoPrepare) {
+            NormalizedQuery normalized = CqlNormalizer.normalize(cqlQuery);
+            if (normalized != null) {
+                try {
+                    PreparedStatement ps = preparedStatementCache.get(normalized.getCql(), dseSession::prepare);
+                    return bindLiterals(ps, normalized.getLiterals());
+                } catch(DriverException | IllegalArgumentException e) {
+                    LOGGER.debug("Cannot prepare query {} : {}", normalized, e.getMessage());
+                }
+            }
+            preparedStatementCache.fallback();
+        }
+        return new SimpleStatement(cqlQuery);
+    }
+    
+    /**
+     * Literals are parsed with the codec of the expected type of each bind marker.
+     */
+    private BoundStatement bindLiterals(PreparedStatement ps, List<String> literals) {
+        ColumnDefinitions variables = ps.getVariables();
+        if (variables.size() != literals.size()) {
+            throw new IllegalArgumentException("Expecting " + variables.size() + " values but got " + literals.size());
+        }
+        CodecRegistry codecRegistry = dseSession.getCluster().getConfiguration().getCodecRegistry();
+        BoundStatement bs = ps.bind();
+        for (int idx = 0; idx < literals.size(); idx++) {
+            TypeCodec<Object> codec = codecRegistry.codecFor(variables.getType(idx));
+            bs.set(idx, codec.parse(literals.get(idx)), codec);
+        }
+        return bs;
+    }
+    
+    /**
+     * Counters of the auto prepare mode.
+     *
+     * @return
+     *      size, hits, misses, evictions and fallbacks
+     */
+    public Map < String, Long > getPreparedStatementsStatistics() {
+        return preparedStatementCache.getStatistics();
     }
     
 }
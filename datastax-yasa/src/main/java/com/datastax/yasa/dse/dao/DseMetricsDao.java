@@ -0,0 +1,135 @@
+package com.datastax.yasa.dse.dao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metrics;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.dse.DseSession;
+import com.datastax.yasa.dse.dto.HostMetrics;
+import com.datastax.yasa.dse.dto.RequestMetrics;
+import com.datastax.yasa.dse.utils.RequestLatencyTracker;
+import com.datastax.yasa.dse.utils.RequestLatencyTracker.RequestType;
+
+/**
+ * Read metrics of the driver: latencies by type of request, connections and requests in flight per host, errors
+ * and retries. Latencies and errors are empty when metrics are disabled (dse.metrics.enabled).
+ *
+ * @author DataStax evangelist team.
+ */
+@Repository
+public class DseMetricsDao {
+
+    /** Nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    /** Hold Connectivity to DSE. */
+    @Autowired
+    protected DseSession dseSession;
+
+    /** Timers of requests and metrics of the driver. */
+    @Autowired
+    @Qualifier("dseMetricRegistry")
+    protected MetricRegistry metricRegistry;
+
+    /**
+     * Default constructor.
+     */
+    public DseMetricsDao() {}
+
+    /**
+     * Allow explicit intialization for test purpose.
+     */
+    public DseMetricsDao(DseSession dseSession, MetricRegistry metricRegistry) {
+        this.dseSession     = dseSession;
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Latencies by type of request.
+     *
+     * @return
+     *      one entry per type with requests sent, empty if metrics are disabled
+     */
+    public List < RequestMetrics > getRequestMetrics() {
+        List<RequestMetrics> requests = new ArrayList<>();
+        for (RequestType type : RequestType.values()) {
+            String name   = RequestLatencyTracker.timerName(type);
+            Timer timer   = metricRegistry.getTimers().get(name);
+            Counter error = metricRegistry.getCounters().get(name + ".errors");
+            Counter nanos = metricRegistry.getCounters().get(name + ".nanos");
+            if (timer != null && timer.getCount() > 0) {
+                Snapshot snapshot = timer.getSnapshot();
+                RequestMetrics request = new RequestMetrics();
+                request.setType(type.name());
+                request.setCount(timer.getCount());
+                request.setErrors(error == null ? 0 : error.getCount());
+                request.setMeanMillis(snapshot.getMean() / NANOS_PER_MILLI);
+                request.setP50Millis(snapshot.getMedian() / NANOS_PER_MILLI);
+                request.setP95Millis(snapshot.get95thPercentile() / NANOS_PER_MILLI);
+                request.setP99Millis(snapshot.get99thPercentile() / NANOS_PER_MILLI);
+                request.setMaxMillis(snapshot.getMax() / NANOS_PER_MILLI);
+                request.setSumMillis(nanos == null ? 0 : nanos.getCount() / NANOS_PER_MILLI);
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Pool and requests in flight of the session per host.
+     *
+     * @return
+     *      one entry per host of the cluster
+     */
+    public List < HostMetrics > getHostMetrics() {
+        Session.State state = dseSession.getState();
+        List<HostMetrics> hosts = new ArrayList<>();
+        for (Host host : dseSession.getCluster().getMetadata().getAllHosts()) {
+            HostMetrics hostMetrics = new HostMetrics();
+            hostMetrics.setAddress(host.getAddress().getHostAddress());
+            hostMetrics.setState(host.getState());
+            hostMetrics.setOpenConnections(state.getOpenConnections(host));
+            hostMetrics.setTrashedConnections(state.getTrashedConnections(host));
+            hostMetrics.setInFlightQueries(state.getInFlightQueries(host));
+            hosts.add(hostMetrics);
+        }
+        return hosts;
+    }
+
+    /**
+     * Errors, retries and speculative executions counted by the driver.
+     *
+     * @return
+     *      counters by name, empty if metrics are disabled
+     */
+    public Map < String, Long > getDriverErrors() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        Metrics metrics = dseSession.getCluster().getMetrics();
+        if (metrics != null) {
+            Metrics.Errors errors = metrics.getErrorMetrics();
+            counters.put("connectionErrors", errors.getConnectionErrors().getCount());
+            counters.put("readTimeouts", errors.getReadTimeouts().getCount());
+            counters.put("writeTimeouts", errors.getWriteTimeouts().getCount());
+            counters.put("unavailables", errors.getUnavailables().getCount());
+            counters.put("clientTimeouts", errors.getClientTimeouts().getCount());
+            counters.put("otherErrors", errors.getOthers().getCount());
+            counters.put("retries", errors.getRetries().getCount());
+            counters.put("ignores", errors.getIgnores().getCount());
+            counters.put("speculativeExecutions", errors.getSpeculativeExecutions().getCount());
+        }
+        return counters;
+    }
+
+}
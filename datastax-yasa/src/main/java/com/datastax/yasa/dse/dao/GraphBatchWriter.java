@@ -0,0 +1,297 @@
+package com.datastax.yasa.dse.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.dse.DseSession;
+import com.datastax.dse.graph.api.DseGraph;
+import com.datastax.dse.graph.api.TraversalBatch;
+import com.datastax.yasa.dse.dto.LoadReport;
+import com.datastax.yasa.dse.utils.DseUtils;
+
+/**
+ * Write rows of traversals to DSE Graph by batches of {@link #batchSize} rows, executed asynchronously with at
+ * most {@link #maxInFlight} batches in flight: {@link #addRow(GraphTraversal...)} blocks when the limit is reached,
+ * the source is never read faster than it is written. A failed batch is counted and the load goes on.
+ *
+ * Rows can be added by several threads (a batch is filled by one thread at a time). Completion of batches (counters
+ * and listeners) runs on an executor, never on driver I/O threads: listeners may block, writing a journal for instance.
+ *
+ * @author DataStax evangelist team.
+ */
+public class GraphBatchWriter implements AutoCloseable {
+
+    /** Loger for that class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphBatchWriter.class);
+
+    /** Errors kept in the report. */
+    private static final int MAX_ERRORS = 20;
+
+    /** Progress is logged every this number of batches. */
+    private static final int LOG_EVERY = 100;
+
+    /** Target session. */
+    private final DseSession dseSession;
+
+    /** Target graph. */
+    private final String graphName;
+
+    /** Rows per batch. */
+    private final int batchSize;
+
+    /** Batches executed at the same time. */
+    private final int maxInFlight;
+
+    /** Runs completion of batches and their listeners. */
+    private final Executor completionExecutor;
+
+    /** One permit per batch in flight. */
+    private final Semaphore inFlight;
+
+    /** Counters, updated on completion of batches. */
+    private final AtomicLong rowsWritten   = new AtomicLong();
+    private final AtomicLong rowsFailed    = new AtomicLong();
+    private final AtomicLong batchesFailed = new AtomicLong();
+
+    /** First errors. */
+    private final List < String > errors = Collections.synchronizedList(new ArrayList<>());
+
+    /** Start of the load. */
+    private final long start = System.currentTimeMillis();
+
+    /** Rows added and batches sent, guarded by the writer. */
+    private long rows    = 0;
+    private long batches = 0;
+
+    /** Batch being filled, its number of rows and listeners of its rows. */
+    private TraversalBatch batch = DseGraph.batch();
+    private int batchRows = 0;
+    private List < RowListener > batchListeners = new ArrayList<>();
+
+    /**
+     * Constructor with limits.
+     *
+     * @param dseSession
+     *      target session
+     * @param graphName
+     *      target graph
+     * @param batchSize
+     *      rows per batch
+     * @param maxInFlight
+     *      batches executed at the same time
+     */
+    public GraphBatchWriter(DseSession dseSession, String graphName, int batchSize, int maxInFlight) {
+        this(dseSession, graphName, batchSize, maxInFlight, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor with limits and the executor of completions.
+     *
+     * @param dseSession
+     *      target session
+     * @param graphName
+     *      target graph
+     * @param batchSize
+     *      rows per batch
+     * @param maxInFlight
+     *      batches executed at the same time
+     * @param completionExecutor
+     *      runs completion of batches and their listeners, must not reject tasks
+     */
+    public GraphBatchWriter(DseSession dseSession, String graphName, int batchSize, int maxInFlight, Executor completionExecutor) {
+        Assert.notNull(dseSession, "'dseSession' is required here");
+        Assert.notNull(completionExecutor, "'completionExecutor' is required here");
+        Assert.hasText(graphName, "'graphName' is required here");
+        Assert.isTrue(batchSize > 0, "'batchSize' must be positive");
+        Assert.isTrue(maxInFlight > 0, "'maxInFlight' must be positive");
+        this.dseSession  = dseSession;
+        this.graphName   = graphName;
+        this.batchSize   = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.completionExecutor = completionExecutor;
+        this.inFlight    = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Add traversals of a row, always written in the same batch.
+     *
+     * @param traversals
+     *      traversals of the row
+     * @return
+     *      current writer
+     */
+    public synchronized GraphBatchWriter addRow(GraphTraversal<?, ?>... traversals) {
+        return addRow(null, traversals);
+    }
+
+    /**
+     * Add traversals of a row, always written in the same batch, the listener is notified when the batch completes.
+     *
+     * @param listener
+     *      notified on the completion executor when the batch completes, can be null
+     * @param traversals
+     *      traversals of the row
+     * @return
+     *      current writer
+     */
+    public synchronized GraphBatchWriter addRow(RowListener listener, GraphTraversal<?, ?>... traversals) {
+        if (listener != null) {
+            batchListeners.add(listener);
+        }
+        for (GraphTraversal<?, ?> traversal : traversals) {
+            batch.add(traversal);
+        }
+        rows++;
+        if (++batchRows >= batchSize) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Count a row of the source that could not be converted to traversals.
+     *
+     * @param error
+     *      reason of the failure
+     * @return
+     *      current writer
+     */
+    public synchronized GraphBatchWriter addFailedRow(String error) {
+        rows++;
+        rowsFailed.incrementAndGet();
+        addError(error);
+        return this;
+    }
+
+    /**
+     * Send the current batch, waits for a free slot if {@link #maxInFlight} batches are executing.
+     */
+    public synchronized void flush() {
+        if (batchRows == 0) {
+            return;
+        }
+        final int size = batchRows;
+        final List<RowListener> listeners = batchListeners;
+        TraversalBatch toSend = batch;
+        batch          = DseGraph.batch();
+        batchRows      = 0;
+        batchListeners = new ArrayList<>();
+        acquire(1);
+        batches++;
+        if (batches % LOG_EVERY == 0) {
+            LOGGER.info("{} rows sent to graph {}, {} written, {} failed", rows, graphName, rowsWritten.get(), rowsFailed.get());
+        }
+        try {
+            DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(toSend.asGraphStatement().setGraphName(graphName)))
+                    .whenCompleteAsync((result, error) -> completed(size, listeners, error), completionExecutor);
+        } catch(RuntimeException e) {
+            completed(size, listeners, e);
+        }
+    }
+
+    /**
+     * Send the last batch and wait for all batches to complete.
+     *
+     * @return
+     *      report of the load
+     */
+    public synchronized LoadReport finish() {
+        flush();
+        acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        LoadReport report = new LoadReport();
+        report.setRows(rows);
+        report.setRowsWritten(rowsWritten.get());
+        report.setRowsFailed(rowsFailed.get());
+        report.setBatches(batches);
+        report.setBatchesFailed(batchesFailed.get());
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        synchronized (errors) {
+            report.getErrors().addAll(errors);
+        }
+        LOGGER.info("Load of graph {} completed: {}", graphName, report);
+        return report;
+    }
+
+    /**
+     * Same as {@link #finish()}, report is logged only.
+     */
+    @Override
+    public void close() {
+        finish();
+    }
+
+    /**
+     * Count rows of a completed batch, notify listeners and free its slot.
+     */
+    private void completed(int size, List<RowListener> listeners, Throwable error) {
+        try {
+            if (error == null) {
+                rowsWritten.addAndGet(size);
+            } else {
+                rowsFailed.addAndGet(size);
+                batchesFailed.incrementAndGet();
+                LOGGER.warn("Batch of {} rows failed on graph {} : {}", size, graphName, error.getMessage());
+                addError(error.getMessage());
+            }
+            for (RowListener listener : listeners) {
+                try {
+                    listener.completed(error == null);
+                } catch(RuntimeException e) {
+                    LOGGER.warn("Listener of a batch failed on graph {}", graphName, e);
+                }
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    /**
+     * Wait for slots, the load is abandoned if the thread is interrupted.
+     */
+    private void acquire(int permits) {
+        try {
+            while (!inFlight.tryAcquire(permits, 1, TimeUnit.MINUTES)) {
+                LOGGER.debug("Waiting for batches in flight on graph {}", graphName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading graph " + graphName, e);
+        }
+    }
+
+    /**
+     * Notified when the batch of a row completes.
+     */
+    @FunctionalInterface
+    public interface RowListener {
+
+        /**
+         * Batch of the row completed.
+         *
+         * @param written
+         *      true if the batch has been executed successfully
+         */
+        void completed(boolean written);
+    }
+
+}
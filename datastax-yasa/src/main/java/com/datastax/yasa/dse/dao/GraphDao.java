@@ -4,14 +4,28 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
@@ -23,9 +37,17 @@ import com.datastax.driver.dse.graph.GraphStatement;
 import com.datastax.driver.dse.graph.SimpleGraphStatement;
 import com.datastax.driver.dse.graph.Vertex;
 import com.datastax.driver.dse.graph.VertexProperty;
+import com.datastax.yasa.dse.dto.GraphSliceToken;
+import com.datastax.yasa.dse.utils.DseUtils;
+import com.datastax.yasa.dse.utils.GremlinExpression;
+import com.datastax.yasa.ui.conf.GraphUiProperties;
 import com.datastax.yasa.ui.model.GraphEdge;
+import com.datastax.yasa.ui.model.GraphIds;
+import com.datastax.yasa.ui.model.GraphSink;
 import com.datastax.yasa.ui.model.GraphVertex;
+import com.datastax.yasa.ui.model.VertexLabelRegistry;
 import com.datastax.yasa.ui.model.VizJsGraph;
+import com.google.common.collect.Lists;
 
 /**
  * Working with DSE GRAPH.
@@ -42,6 +64,105 @@ public class GraphDao {
     @Autowired
     protected DseSession dseSession;
     
+    /** Results of asynchronous queries are mapped here, not on driver I/O threads. */
+    @Autowired
+    @Qualifier("dseResultMappingExecutor")
+    protected Executor mappingExecutor;
+    
+    /** Out edges of a chunk of vertices, at most 'cap' per vertex. */
+    private static final String QUERY_EDGES_FROM = "g.V(ids.toArray()).local(outE().limit(cap))";
+    
+    /** Edges of each vertex of a frontier, at most 'cap' per vertex, and vertices by ids. */
+    private static final String QUERY_EXPAND   = "g.V(ids.toArray()).project('id', 'edges').by(id()).by(bothE().limit(cap).fold())";
+    private static final String QUERY_VERTICES = "g.V(ids.toArray())";
+    private static final String KEY_EDGES      = "edges";
+    
+    /** Wrap a query: vertices first (projected on display properties), then other results and edges between vertices. */
+    private static final String SCRIPT_BEGIN   = "def yasaResult = (";
+    private static final String SCRIPT_COLLECT = ");\n"
+            + "def yasaNodes = (yasaResult instanceof Iterator || yasaResult instanceof Iterable) ? yasaResult.toList() : [yasaResult];\n"
+            + "def yasaVertices = [];\n"
+            + "def yasaOthers = [];\n"
+            + "def yasaIds = [];\n"
+            + "for (n in yasaNodes) { if (n instanceof Vertex) { yasaIds.add(n.id()); ";
+    private static final String SCRIPT_VERTEX  = "yasaVertices.add(n)";
+    private static final String SCRIPT_PROJECTED_VERTEX = "def yasaProps = [:]; "
+            + "def yasaKeys = yasaDisplay.get(n.label().toLowerCase()); "
+            + "if (yasaKeys != null) { for (k in yasaKeys) { def p = n.properties(k); if (p.hasNext()) yasaProps.put(k, p.next().value()) } }; "
+            + "yasaVertices.add(['yasaVertex': true, 'id': n.id(), 'label': n.label(), 'properties': yasaProps])";
+    private static final String SCRIPT_OTHERS  = " } else { yasaOthers.add(n) } };\n"
+            + "yasaVertices.addAll(yasaOthers);\n";
+    private static final String SCRIPT_EDGES   = 
+            "if (!yasaIds.isEmpty()) yasaVertices.addAll(g.V(yasaIds.toArray()).outE().where(inV().id().is(within(yasaIds))).toList());\n";
+    private static final String SCRIPT_OUT_EDGES =
+            "if (!yasaIds.isEmpty()) { def yasaTruncated = [];\n"
+            + "g.V(yasaIds.toArray()).project('id', 'edges').by(id()).by(outE().limit(yasaEdgeCap + 1).fold()).toList().each { m ->\n"
+            + "  def es = m.get('edges'); if (es.size() > yasaEdgeCap) { yasaTruncated.add(m.get('id')); es = es.subList(0, yasaEdgeCap) };\n"
+            + "  yasaVertices.addAll(es) };\n"
+            + "if (!yasaTruncated.isEmpty()) yasaVertices.add(['yasaTruncated': yasaTruncated]) };\n";
+    private static final String SCRIPT_END     = "yasaVertices";
+    
+    /** Keys of a projected vertex. */
+    private static final String KEY_PROJECTED   = "yasaVertex";
+    private static final String KEY_ID          = "id";
+    private static final String KEY_LABEL       = "label";
+    private static final String KEY_PROPERTIES  = "properties";
+    
+    /** Vertices of a slice with more outgoing edges than the cap, returned last. */
+    private static final String KEY_TRUNCATED   = "yasaTruncated";
+    
+    /** Vertices are returned with id, label and the properties displayed only, when the query is a single expression. */
+    @Value("${dse.graph.projection: true}")
+    private boolean projection = true;
+    
+    /** Display labels of vertices, configured in 'ui-graph.nodes.labels'. */
+    @Autowired
+    protected VertexLabelRegistry labelRegistry;
+    
+    /** Edges are retrieved by the same request as vertices when the query is a single expression, in a second phase otherwise. */
+    @Value("${dse.graph.edges.singleRequest: true}")
+    private boolean edgesInSingleRequest = true;
+    
+    /** Number of vertices per edges query when edges are retrieved in a second phase. */
+    @Value("${dse.graph.edges.chunkSize: 200}")
+    private int edgesChunkSize = 200;
+    
+    /** Maximum number of edges queries executed at the same time. */
+    @Value("${dse.graph.edges.maxInFlight: 4}")
+    private int edgesMaxInFlight = 4;
+    
+    /** Maximum number of out edges read per vertex when edges are retrieved in a second phase. */
+    @Value("${dse.graph.edges.maxPerVertex: 200}")
+    private int edgesMaxPerVertex = 200;
+    
+    /** Maximum number of hops of a bounded expansion. */
+    @Value("${dse.graph.expansion.maxHops: 4}")
+    private int expansionMaxHops = 4;
+    
+    /** Maximum number of edges followed per vertex in a bounded expansion. */
+    @Value("${dse.graph.expansion.fanOut: 50}")
+    private int expansionFanOut = 50;
+    
+    /** Maximum number of vertices returned by a bounded expansion. */
+    @Value("${dse.graph.expansion.maxVertices: 500}")
+    private int expansionMaxVertices = 500;
+    
+    /** Labels of vertices returned but never expanded by a bounded expansion (highly connected by nature). */
+    @Value("${dse.graph.expansion.supernodeLabels:}")
+    private String[] supernodeLabels = {};
+    
+    /** Default number of vertices per slice when a graph is loaded progressively. */
+    @Value("${dse.graph.slice.size: 200}")
+    private int sliceSize = 200;
+    
+    /** Maximum number of outgoing edges returned per vertex of a slice. */
+    @Value("${dse.graph.slice.maxEdgesPerVertex: 50}")
+    private int sliceMaxEdgesPerVertex = 50;
+    
+    /** Keys ordering vertices of a label loaded by slices, as 'label:property' (comma separated). */
+    @Value("${dse.graph.slice.keys:}")
+    private String[] sliceKeys = {};
+    
     /**
      * Default constructor.
      */
@@ -51,7 +172,9 @@ public class GraphDao {
      * Allow explicit intialization for test purpose.
      */
     public GraphDao(DseSession dseSession) {
-        this.dseSession     = dseSession;
+        this.dseSession      = dseSession;
+        this.mappingExecutor = ForkJoinPool.commonPool();
+        this.labelRegistry   = new VertexLabelRegistry(new GraphUiProperties.Nodes().getLabels());
     }
     
     /**
@@ -97,13 +220,27 @@ public class GraphDao {
      *      graph names
      */
     public Set <String > listGraphNames() {
-        GraphStatement gStatement =  new SimpleGraphStatement("system.graphs()").setSystemQuery();
-        return dseSession.executeGraph(gStatement)
-                         .all().stream().map(GraphNode::asString)
-                         .collect(Collectors.toSet());
+        return mapGraphNames(dseSession.executeGraph(listGraphNamesStatement()));
     }
     
+    /**
+     * Retrieve available graphs without blocking.
+     *
+     * @return
+     *      future on graph names
+     */
+    public CompletableFuture < Set < String > > listGraphNamesAsync() {
+        return DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(listGraphNamesStatement()))
+                       .thenApplyAsync(this::mapGraphNames, mappingExecutor);
+    }
+    
+    private GraphStatement listGraphNamesStatement() {
+        return new SimpleGraphStatement("system.graphs()").setSystemQuery();
+    }
     
+    private Set < String > mapGraphNames(GraphResultSet gras) {
+        return gras.all().stream().map(GraphNode::asString).collect(Collectors.toSet());
+    }
     
     /**
      * On a vertex, list type of edges available
@@ -139,110 +276,752 @@ public class GraphDao {
     }
     
     /**
-     * Load all Graph as a single query.
+     * Load the first slice of a graph: {@link #sliceSize} vertices of the first label configured in 'dse.graph.slice.keys'
+     * with their edges, the following slices (then the other labels) are loaded with the continuation of the result.
      * 
      * @param graphName
      *      target graohName
      * @return
+     *      first slice of the graph
      */
     public VizJsGraph loadGraph(String graphName) {
         Assert.hasText(graphName, "'graphName' is required here");
-        return executeGremlinQuery(graphName, "g.V()", true);
+        return loadGraphSlice(graphName, firstSlice(graphName, GraphSliceToken.Strategy.LABEL, null, null));
+    }
+    
+    /**
+     * Token of the first slice of a graph, vertices of a label are ordered by the key configured in 'dse.graph.slice.keys'.
+     * Without label, slices read the configured labels in turn (a sample of the graph when no key is configured).
+     *
+     * @param graphName
+     *      target graph
+     * @param strategy
+     *      selection of vertices
+     * @param label
+     *      vertex label (optional except for LABEL)
+     * @param size
+     *      number of vertices per slice, default size if null
+     * @return
+     *      token of the first slice
+     */
+    public GraphSliceToken firstSlice(String graphName, GraphSliceToken.Strategy strategy, String label, Integer size) {
+        int slice = (size == null) ? sliceSize : size;
+        if (strategy == GraphSliceToken.Strategy.LABEL && (label == null || label.isEmpty())) {
+            Map.Entry<String, String> first = sliceLabels().entrySet().stream().findFirst().orElse(null);
+            if (first != null) {
+                return GraphSliceToken.byLabels(graphName, first.getKey(), first.getValue(), slice);
+            }
+            LOGGER.warn("No key configured in 'dse.graph.slice.keys', graph {} is loaded by samples", graphName);
+        } else if (strategy == GraphSliceToken.Strategy.LABEL) {
+            return GraphSliceToken.byLabel(graphName, label, sliceKey(label), slice);
+        }
+        return GraphSliceToken.sample(graphName, label, slice);
+    }
+    
+    /**
+     * Key ordering vertices of a label.
+     */
+    private String sliceKey(String label) {
+        for (Map.Entry<String, String> labelKey : sliceLabels().entrySet()) {
+            if (labelKey.getKey().equalsIgnoreCase(label)) {
+                return labelKey.getValue();
+            }
+        }
+        throw new IllegalArgumentException("No key to load vertices of label '" + label + "' by slices, see 'dse.graph.slice.keys'");
+    }
+    
+    /**
+     * Labels loaded by slices and their key, in configuration order.
+     */
+    private Map<String, String> sliceLabels() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        for (String entry : sliceKeys) {
+            String[] labelKey = entry.split(":");
+            if (labelKey.length == 2) {
+                labels.put(labelKey[0].trim(), labelKey[1].trim());
+            }
+        }
+        return labels;
+    }
+    
+    /**
+     * First slice of the label configured after the one of a chained token.
+     *
+     * @return
+     *      token or null if the label was the last one
+     */
+    private GraphSliceToken followingLabel(GraphSliceToken token) {
+        boolean found = false;
+        for (Map.Entry<String, String> labelKey : sliceLabels().entrySet()) {
+            if (found) {
+                return token.following(labelKey.getKey(), labelKey.getValue());
+            }
+            found = labelKey.getKey().equalsIgnoreCase(token.getLabel());
+        }
+        return null;
+    }
+    
+    /**
+     * Load a slice of a graph: vertices selected by the token and their outgoing edges (edges are then
+     * returned once, with the slice of their out vertex), at most {@link #sliceMaxEdgesPerVertex} per vertex.
+     * Vertices with more edges and the slice are marked as truncated. Continuation of the result is set
+     * when more vertices may be available.
+     *
+     * @param graphName
+     *      target graph
+     * @param token
+     *      slice to load
+     * @return
+     *      vertices and edges of the slice
+     */
+    public VizJsGraph loadGraphSlice(String graphName, GraphSliceToken token) {
+        return populateSlice(dseSession.executeGraph(sliceStatement(graphName, token)), token);
+    }
+    
+    /**
+     * Same as {@link #loadGraphSlice(String, GraphSliceToken)} without blocking.
+     *
+     * @param graphName
+     *      target graph
+     * @param token
+     *      slice to load
+     * @return
+     *      future on vertices and edges of the slice
+     */
+    public CompletableFuture < VizJsGraph > loadGraphSliceAsync(String graphName, GraphSliceToken token) {
+        return DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(sliceStatement(graphName, token)))
+                .thenApplyAsync(gras -> populateSlice(gras, token), mappingExecutor);
+    }
+    
+    /**
+     * Getter accessor for attribute 'sliceSize'.
+     *
+     * @return
+     *       current value of 'sliceSize'
+     */
+    public int getSliceSize() {
+        return sliceSize;
+    }
+    
+    /**
+     * Query of a slice, bounds are bound and not concatenated. Sampled slices keep only edges between their
+     * vertices as all vertices of the graph are never loaded. Vertices of a label are read from the last key of
+     * the previous slice, not from an offset: the key should be indexed (search index) so that the range, the order
+     * and the limit are served by the index.
+     */
+    private GraphStatement sliceStatement(String graphName, GraphSliceToken token) {
+        Assert.hasText(graphName, "'graphName' is required here");
+        Assert.notNull(token, "'token' is required here");
+        Assert.isTrue(graphName.equals(token.getGraphName()), "Continuation token was issued for another graph");
+        LOGGER.info("Loading slice {} of graph {} ({} from {})", token, graphName, token.getStrategy(),
+                token.getStrategy() == GraphSliceToken.Strategy.LABEL ? token.getAfter() : token.getOffset());
+        StringBuilder query = new StringBuilder("g.V()");
+        if (token.getLabel() != null) {
+            query.append(".hasLabel(sliceLabel)");
+        }
+        SimpleGraphStatement statement;
+        if (token.getStrategy() == GraphSliceToken.Strategy.LABEL) {
+            query.append(token.getAfter() == null ? ".has(sliceKey)" : ".has(sliceKey, gt(sliceAfter))");
+            query.append(".order().by(sliceKey, incr).limit(sliceSize)");
+            statement = queryStatement(graphName, query.toString(), Collections.emptyMap(), SCRIPT_OUT_EDGES);
+            statement.set("sliceKey", token.getKey()).set("sliceSize", token.getSize()).set("yasaEdgeCap", sliceMaxEdgesPerVertex);
+            if (token.getAfter() != null) {
+                statement.set("sliceAfter", token.getAfter());
+            }
+            if (projection) {
+                // Key of the last vertex is required for the continuation
+                Map<String, List<String>> display = new HashMap<>(labelRegistry.getDisplayProperties());
+                List<String> properties = new ArrayList<>(display.getOrDefault(token.getLabel().toLowerCase(Locale.ENGLISH), Collections.emptyList()));
+                properties.add(token.getKey());
+                display.put(token.getLabel().toLowerCase(Locale.ENGLISH), properties);
+                statement.set("yasaDisplay", display);
+            }
+        } else {
+            query.append(".range(sliceStart, sliceEnd).sample(sliceSize)");
+            statement = queryStatement(graphName, query.toString(), Collections.emptyMap(), SCRIPT_EDGES);
+            statement.set("sliceStart", token.getOffset()).set("sliceEnd", token.getEnd()).set("sliceSize", token.getSize());
+        }
+        if (token.getLabel() != null) {
+            statement.set("sliceLabel", token.getLabel());
+        }
+        return statement;
+    }
+    
+    /**
+     * Map a slice, a full slice may be followed by another one.
+     */
+    private VizJsGraph populateSlice(GraphResultSet gras, GraphSliceToken token) {
+        VizJsGraph slice = new VizJsGraph();
+        Map<String, GraphVertex> vertices = new HashMap<>();
+        GraphNode lastVertex = null;
+        for (GraphNode gn : gras) {
+            GraphVertex vertex = toGraphVertex(gn);
+            if (vertex != null) {
+                lastVertex = gn;
+                vertices.put(vertex.getId(), vertex);
+                slice.addVertex(vertex);
+            } else if (gn.isEdge()) {
+                slice.addEdge(toGraphEdge(gn.asEdge()));
+            } else if (gn.isObject() && gn.get(KEY_TRUNCATED) != null && !gn.get(KEY_TRUNCATED).isNull()) {
+                GraphNode truncatedIds = gn.get(KEY_TRUNCATED);
+                for (int idx = 0; idx < truncatedIds.size(); idx++) {
+                    GraphVertex truncated = vertices.get(GraphIds.shortId(truncatedIds.get(idx).toString()));
+                    if (truncated != null) truncated.setTruncated(true);
+                }
+                slice.setTruncated(true);
+            }
+        }
+        if (vertices.size() >= token.getSize()) {
+            Object lastKey = null;
+            if (token.getStrategy() == GraphSliceToken.Strategy.LABEL) {
+                GraphNode key = propertyValue(lastVertex, token.getKey());
+                if (key == null) {
+                    throw new IllegalStateException("Key '" + token.getKey() + "' not found on vertex " + vertexId(lastVertex));
+                }
+                lastKey = key.as(Object.class);
+            }
+            slice.setContinuation(token.next(lastKey).toString());
+        } else if (token.isChained()) {
+            GraphSliceToken following = followingLabel(token);
+            if (following != null) {
+                slice.setContinuation(following.toString());
+            }
+        }
+        return slice;
+    }
+    
+    /**
+     * Value of a property of a vertex, full or projected.
+     *
+     * @return
+     *      value or null if missing
+     */
+    private GraphNode propertyValue(GraphNode gn, String key) {
+        if (gn.isVertex()) {
+            VertexProperty property = gn.asVertex().getProperty(key);
+            return (property == null) ? null : property.getValue();
+        }
+        GraphNode properties = gn.get(KEY_PROPERTIES);
+        GraphNode property   = (properties == null) ? null : properties.get(key);
+        return (property == null || property.isNull()) ? null : property;
     }
     
     /**
      * @param gremlinQuery
      */
     public VizJsGraph executeGremlinQuery(String graphName, String gremlinQuery, boolean populateEdges) {
+        return executeGremlinQuery(graphName, gremlinQuery, Collections.emptyMap(), populateEdges);
+    }
+    
+    /**
+     * Execute a parameterized query: values are sent as bindings, the script is the same for all values and
+     * compiled once by the server.
+     *
+     * @param graphName
+     *      target graph
+     * @param gremlinQuery
+     *      query returning vertices and/or edges
+     * @param bindings
+     *      values of the query parameters
+     * @param populateEdges
+     *      retrieve edges between returned vertices
+     * @return
+     *      graph to display
+     */
+    public VizJsGraph executeGremlinQuery(String graphName, String gremlinQuery, Map<String, Object> bindings, boolean populateEdges) {
+        VizJsGraph vizGraph = new VizJsGraph();
+        executeGremlinQuery(graphName, gremlinQuery, bindings, populateEdges, vizGraph);
+        return vizGraph;
+    }
+    
+    /**
+     * Execute query and send elements to the sink while results are iterated, vertices first. Only
+     * identifiers of vertices are kept when edges are retrieved in a second phase.
+     *
+     * @param graphName
+     *      target graph
+     * @param gremlinQuery
+     *      query returning vertices and/or edges
+     * @param populateEdges
+     *      retrieve edges between returned vertices
+     * @param sink
+     *      target for vertices and edges
+     */
+    public void executeGremlinQuery(String graphName, String gremlinQuery, boolean populateEdges, GraphSink sink) {
+        executeGremlinQuery(graphName, gremlinQuery, Collections.emptyMap(), populateEdges, sink);
+    }
+    
+    /**
+     * Same as {@link #executeGremlinQuery(String, String, boolean, GraphSink)} for a parameterized query.
+     *
+     * @param graphName
+     *      target graph
+     * @param gremlinQuery
+     *      query returning vertices and/or edges
+     * @param bindings
+     *      values of the query parameters
+     * @param populateEdges
+     *      retrieve edges between returned vertices
+     * @param sink
+     *      target for vertices and edges
+     */
+    public void executeGremlinQuery(String graphName, String gremlinQuery, Map<String, Object> bindings, boolean populateEdges, GraphSink sink) {
         Assert.hasText(graphName, "'graphName' is required here");
         Assert.hasText(gremlinQuery, "'gremlinQuery' is required here");
+        Assert.notNull(sink, "'sink' is required here");
         LOGGER.info("Executing query {} on graph {}", gremlinQuery, graphName);
         
-        // QUERY FOR VERTICES
-        GraphStatement graphStatement = new SimpleGraphStatement(gremlinQuery).setGraphName(graphName);
-        GraphResultSet gras = dseSession.executeGraph(graphStatement);
+        // SINGLE ROUND TRIP, VERTICES FOLLOWED BY THEIR EDGES (query wrapped, must be a single expression)
+        if (populateEdges && edgesInSingleRequest && GremlinExpression.singleExpression(gremlinQuery) != null) {
+            populateGraphVizJs(dseSession.executeGraph(queryStatement(graphName, gremlinQuery, bindings, SCRIPT_EDGES)), sink, null);
+            return;
+        }
         
-        // MAPPING AS VERTICES IN UI
-        VizJsGraph vizGraph    = new VizJsGraph();
+        // QUERY FOR VERTICES, MAPPING AS VERTICES IN UI (edges of the result after vertices)
         List<Object> vertexIds = new ArrayList<>();
-        for (GraphNode gn : gras) {
-            if (populateEdges && gn.isVertex()) vertexIds.add(gn.asVertex().getId());
-            populateGraphVizJs(gn, vizGraph);
+        List<GraphNode> edges  = new ArrayList<>();
+        for (GraphNode gn : dseSession.executeGraph(queryStatement(graphName, gremlinQuery, bindings, null))) {
+            if (gn.isEdge()) {
+                edges.add(gn);
+            } else {
+                GraphNode vertexId = vertexId(gn);
+                if (populateEdges && vertexId != null) vertexIds.add(vertexId);
+                populateGraphVizJs(gn, sink);
+            }
         }
+        edges.forEach(gn -> populateGraphVizJs(gn, sink));
         
         // QUERY FOR INTERMEDIATE EDGES
         if (populateEdges) {
-            String queryNeightBoor = "g.V(ids.toArray()).outE().where(inV().id().is(within(ids)))";
-            GraphStatement statementNeightBour = new SimpleGraphStatement(queryNeightBoor)
-                    .set("ids", vertexIds)
-                    .setGraphName(graphName);
-            GraphResultSet res = dseSession.executeGraph(statementNeightBour);
-            res.all().stream().forEach(gn -> populateGraphVizJs(gn, vizGraph));
+            join(resolveEdgesAsync(graphName, vertexIds, sink));
         }
-        return vizGraph;
     }
     
     /**
-     * Utility to map {@link GraphNode} as UI Bean
+     * Bounded expansion around the vertices returned by a query: neighbours are followed hop by hop (up to
+     * {@link #expansionMaxHops}), at most {@link #expansionFanOut} edges per vertex are read and no more than
+     * {@link #expansionMaxVertices} vertices are returned. Vertices labelled as supernodes are not expanded.
+     * Vertices with neighbours left aside and the graph itself are marked as truncated. Edges are the ones
+     * followed during the expansion.
+     *
+     * @param graphName
+     *      target graph
+     * @param startQuery
+     *      query returning the vertices to start from
+     * @param bindings
+     *      values of the query parameters
+     * @return
+     *      graph to display
+     */
+    public VizJsGraph expandGraph(String graphName, String startQuery, Map<String, Object> bindings) {
+        return join(expandGraphAsync(graphName, startQuery, bindings));
+    }
+    
+    /**
+     * Same as {@link #expandGraph(String, String, Map)} without blocking, one request for edges and one
+     * for new vertices per hop.
+     *
+     * @param graphName
+     *      target graph
+     * @param startQuery
+     *      query returning the vertices to start from
+     * @param bindings
+     *      values of the query parameters
+     * @return
+     *      future on the graph to display
+     */
+    public CompletableFuture < VizJsGraph > expandGraphAsync(String graphName, String startQuery, Map<String, Object> bindings) {
+        Assert.hasText(graphName, "'graphName' is required here");
+        Assert.hasText(startQuery, "'startQuery' is required here");
+        LOGGER.info("Expanding query {} on graph {} (maxHops={}, fanOut={}, maxVertices={})",
+                startQuery, graphName, expansionMaxHops, expansionFanOut, expansionMaxVertices);
+        Expansion expansion = new Expansion();
+        return DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(queryStatement(graphName, startQuery, bindings, null)))
+                .thenApplyAsync(expansion::addVertices, mappingExecutor)
+                .thenCompose(frontier -> expandHop(graphName, expansion, frontier, 1))
+                .thenApply(done -> expansion.toGraph());
+    }
+    
+    /**
+     * Read edges of the frontier then the new vertices they lead to, and continue with these vertices.
+     */
+    private CompletableFuture < Void > expandHop(String graphName, Expansion expansion, List<GraphNode> frontier, int hop) {
+        if (frontier.isEmpty() || hop > expansionMaxHops) {
+            return CompletableFuture.completedFuture(null);
+        }
+        GraphStatement edgesOf = new SimpleGraphStatement(QUERY_EXPAND)
+                .set("ids", frontier).set("cap", expansionFanOut + 1).setGraphName(graphName);
+        return DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(edgesOf))
+                .thenApplyAsync(expansion::addEdges, mappingExecutor)
+                .thenCompose(neighbours -> neighbours.isEmpty() ? 
+                        CompletableFuture.completedFuture(Collections.<GraphNode>emptyList()) : 
+                        DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(
+                                queryStatement(graphName, QUERY_VERTICES, Collections.singletonMap("ids", neighbours), null)))
+                                .thenApplyAsync(expansion::addVertices, mappingExecutor))
+                .thenCompose(next -> expandHop(graphName, expansion, next, hop + 1));
+    }
+    
+    /**
+     * Wait for a future, cause of a failure is thrown as is.
+     */
+    protected static < T > T join(CompletableFuture < T > future) {
+        try {
+            return future.join();
+        } catch(CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+    
+    /**
+     * Same as {@link #executeGremlinQuery(String, String, boolean)} without blocking: query for edges is
+     * chained when vertices are mapped and mapping is done on the mapping executor.
+     *
+     * @param graphName
+     *      target graph
+     * @param gremlinQuery
+     *      query returning vertices and/or edges
+     * @param populateEdges
+     *      retrieve edges between returned vertices
+     * @return
+     *      future on the graph to display
+     */
+    public CompletableFuture < VizJsGraph > executeGremlinQueryAsync(String graphName, String gremlinQuery, boolean populateEdges) {
+        return executeGremlinQueryAsync(graphName, gremlinQuery, Collections.emptyMap(), populateEdges);
+    }
+    
+    /**
+     * Same as {@link #executeGremlinQueryAsync(String, String, boolean)} for a parameterized query.
+     *
+     * @param graphName
+     *      target graph
+     * @param gremlinQuery
+     *      query returning vertices and/or edges
+     * @param bindings
+     *      values of the query parameters
+     * @param populateEdges
+     *      retrieve edges between returned vertices
+     * @return
+     *      future on the graph to display
+     */
+    public CompletableFuture < VizJsGraph > executeGremlinQueryAsync(String graphName, String gremlinQuery,
+            Map<String, Object> bindings, boolean populateEdges) {
+        Assert.hasText(graphName, "'graphName' is required here");
+        Assert.hasText(gremlinQuery, "'gremlinQuery' is required here");
+        LOGGER.info("Executing query {} on graph {} (async)", gremlinQuery, graphName);
+        
+        if (populateEdges && edgesInSingleRequest && GremlinExpression.singleExpression(gremlinQuery) != null) {
+            return DseUtils.buildCompletableFuture(dseSession.executeGraphAsync(queryStatement(graphName, gremlinQuery, bindings, SCRIPT_EDGES)))
+                    .thenApplyAsync(gras -> populateGraphVizJs(gras, new VizJsGraph(), null), mappingExecutor);
+        }
+        
+        // Filled by the first stage and read by the second one, stages are ordered
+        List<Object> vertexIds = new ArrayList<>();
+        CompletableFuture < VizJsGraph > vertices = DseUtils
+                .buildCompletableFuture(dseSession.executeGraphAsync(queryStatement(graphName, gremlinQuery, bindings, null)))
+                .thenApplyAsync(gras -> populateGraphVizJs(gras, new VizJsGraph(), populateEdges ? vertexIds : null), mappingExecutor);
+        if (!populateEdges) {
+            return vertices;
+        }
+        return vertices.thenCompose(vizGraph -> resolveEdgesAsync(graphName, vertexIds, vizGraph));
+    }
+    
+    /**
+     * Retrieve edges between vertices: ids are split in chunks of {@link #edgesChunkSize} and the out edges of each
+     * chunk are queried (at most {@link #edgesMaxPerVertex} per vertex), with at most {@link #edgesMaxInFlight}
+     * requests in flight, each lane executing its chunks one after the other. The number of requests grows linearly
+     * with the number of chunks: edges whose in vertex is not part of the result are filtered on the client. Edges
+     * are sent to the sink as each chunk completes, an edge is only returned by the chunk of its out vertex.
+     *
+     * @param graphName
+     *      target graph
+     * @param vertexIds
+     *      vertices returned by the user query
+     * @param sink
+     *      target for edges
+     * @return
+     *      future on the sink, completed when all edges have been sent
+     */
+    private < S extends GraphSink > CompletableFuture < S > resolveEdgesAsync(String graphName, List<Object> vertexIds, S sink) {
+        List<Object> ids = new ArrayList<>(new LinkedHashSet<>(vertexIds));
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(sink);
+        }
+        Set<String> targets = ids.stream().map(Object::toString).collect(Collectors.toSet());
+        List<List<Object>> chunks = Lists.partition(ids, Math.max(1, edgesChunkSize));
+        int lanes = Math.max(1, Math.min(edgesMaxInFlight, chunks.size()));
+        LOGGER.debug("Resolving edges of {} vertices with {} queries, {} in flight", ids.size(), chunks.size(), lanes);
+        
+        CompletableFuture<?>[] laneResults = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> laneResult = CompletableFuture.completedFuture(null);
+            for (int idx = lane; idx < chunks.size(); idx += lanes) {
+                GraphStatement edgesFrom = new SimpleGraphStatement(QUERY_EDGES_FROM)
+                        .set("ids", chunks.get(idx))
+                        .set("cap", Math.max(1, edgesMaxPerVertex))
+                        .setGraphName(graphName);
+                laneResult = laneResult.thenCompose(done -> DseUtils
+                        .buildCompletableFuture(dseSession.executeGraphAsync(edgesFrom))
+                        .thenAcceptAsync(gras -> addEdges(gras, targets, sink), mappingExecutor));
+            }
+            laneResults[lane] = laneResult;
+        }
+        return CompletableFuture.allOf(laneResults).thenApply(done -> sink);
+    }
+    
+    /**
+     * Add edges of a result ending on one of the targets, lanes share the sink.
+     */
+    private void addEdges(GraphResultSet gras, Set<String> targets, GraphSink sink) {
+        for (GraphNode gn : gras) {
+            if (gn.isEdge() && targets.contains(gn.asEdge().getInV().toString())) {
+                synchronized (sink) {
+                    populateGraphVizJs(gn, sink);
+                }
+            }
+        }
+    }
+    
+    /**
+     * User query, wrapped in a script when vertices are projected or edges retrieved in the same request. The script
+     * returns vertices (id, label and display properties only), other results and then the edges of returned
+     * vertices selected by the edges script (if any): edges are resolved on the server and vertex ids are not sent
+     * back and forth. Queries which are not a single expression (statements) are sent as is, vertices are then
+     * not projected and callers asking for edges must check {@link GremlinExpression#singleExpression(String)}.
+     */
+    private SimpleGraphStatement queryStatement(String graphName, String gremlinQuery, Map<String, Object> bindings, String edgesScript) {
+        Assert.notNull(bindings, "'bindings' is required here");
+        String expression = GremlinExpression.singleExpression(gremlinQuery);
+        if ((edgesScript == null && !projection) || expression == null) {
+            SimpleGraphStatement statement = new SimpleGraphStatement(gremlinQuery);
+            bindings.forEach(statement::set);
+            statement.setGraphName(graphName);
+            return statement;
+        }
+        StringBuilder script = new StringBuilder(SCRIPT_BEGIN).append(expression).append(SCRIPT_COLLECT);
+        script.append(projection ? SCRIPT_PROJECTED_VERTEX : SCRIPT_VERTEX).append(SCRIPT_OTHERS);
+        if (edgesScript != null) {
+            script.append(edgesScript);
+        }
+        script.append(SCRIPT_END);
+        SimpleGraphStatement statement = new SimpleGraphStatement(script.toString());
+        bindings.forEach(statement::set);
+        if (projection) {
+            statement.set("yasaDisplay", labelRegistry.getDisplayProperties());
+        }
+        statement.setGraphName(graphName);
+        return statement;
+    }
+    
+    /**
+     * Vertex projected by the query script.
+     */
+    private boolean isProjectedVertex(GraphNode gn) {
+        return gn.isObject() && gn.get(KEY_PROJECTED) != null && !gn.get(KEY_PROJECTED).isNull();
+    }
+    
+    /**
+     * Identifier of a vertex, full or projected.
+     *
+     * @return
+     *      identifier or null if not a vertex
+     */
+    private GraphNode vertexId(GraphNode gn) {
+        if (gn.isVertex()) return gn.asVertex().getId();
+        if (isProjectedVertex(gn)) return gn.get(KEY_ID);
+        return null;
+    }
+    
+    /**
+     * Map a whole result set as UI Bean.
+     *
+     * @param gras
+     *      graph result set
+     * @param graph
+     *      target graph
+     * @param vertexIds
+     *      collect identifiers of vertices if not null
+     * @return
+     *      target graph
+     */
+    private < S extends GraphSink > S populateGraphVizJs(GraphResultSet gras, S graph, List<Object> vertexIds) {
+        for (GraphNode gn : gras) {
+            GraphNode vertexId = vertexId(gn);
+            if (vertexIds != null && vertexId != null) vertexIds.add(vertexId);
+            populateGraphVizJs(gn, graph);
+        }
+        return graph;
+    }
+    
+    /**
+     * Utility to map {@link GraphNode} as UI Bean, display label is rendered by {@link #labelRegistry}.
      * @param gn
      *      graph node
      * @param graph
      *      target graph
      */
-    private void populateGraphVizJs(GraphNode gn, VizJsGraph graph) {
+    private void populateGraphVizJs(GraphNode gn, GraphSink graph) {
+        GraphVertex vertex = toGraphVertex(gn);
+        if (vertex != null) {
+            graph.addVertex(vertex);
+        } else if (gn.isEdge()) {
+            graph.addEdge(toGraphEdge(gn.asEdge()));
+        }
+    }
+    
+    /**
+     * Vertex, full or projected, as UI Bean.
+     *
+     * @return
+     *      vertex or null if not a vertex
+     */
+    private GraphVertex toGraphVertex(GraphNode gn) {
         if (gn.isVertex()) {
             Vertex v = gn.asVertex();
-            GraphVertex gv = new GraphVertex().id(v.getId().toString()).label(v.getLabel());
-            
-            if ("cluster".equals(v.getLabel())) {
-                VertexProperty goldenDisplayName = v.getProperty("golden_display_name");
-                if (goldenDisplayName != null) {
-                    gv.setLabel(v.getProperty("golden_display_name").getValue().asString());
-                }
-                
-            } else if ("customer".equalsIgnoreCase(v.getLabel())) {
-                VertexProperty firstName = v.getProperty("firstname");
-                VertexProperty surname = v.getProperty("surname");
-                String label = "";
-                if (surname != null) {
-                    label+= surname.getValue().asString() + " ";
-                }
-                if (firstName != null) {
-                    label+= firstName.getValue().asString();
-                }
-                if (!"".equals(label)) {
-                    gv.setLabel(label);
-                }
-            } else if ("contract".equalsIgnoreCase(v.getLabel())) {
-                VertexProperty sysAPL      = v.getProperty("sys_apl");
-                VertexProperty agreementId = v.getProperty("agreement_id");
-                String label = "";
-                if (agreementId != null) {
-                    label+= agreementId.getValue().asString();
+            return newGraphVertex(v.getId(), v.getLabel(), key -> {
+                VertexProperty property = v.getProperty(key);
+                return (property == null) ? null : property.getValue().asString();
+            });
+        }
+        if (isProjectedVertex(gn)) {
+            GraphNode properties = gn.get(KEY_PROPERTIES);
+            return newGraphVertex(gn.get(KEY_ID), gn.get(KEY_LABEL).asString(), key -> {
+                GraphNode property = (properties == null) ? null : properties.get(key);
+                return (property == null || property.isNull()) ? null : property.asString();
+            });
+        }
+        return null;
+    }
+    
+    /**
+     * Edge as UI Bean, identifiers are replaced by short surrogates.
+     */
+    private GraphEdge toGraphEdge(Edge e) {
+        return new GraphEdge(GraphIds.shortId(e.getOutV().toString()), GraphIds.shortId(e.getInV().toString()))
+                .id(GraphIds.shortId(e.getId().toString()));
+    }
+    
+    /**
+     * Vertex for the UI, grouped by label, DSE identifier is replaced by a short surrogate.
+     */
+    private GraphVertex newGraphVertex(GraphNode id, String vertexLabel, Function<String, String> properties) {
+        GraphVertex gv = new GraphVertex().id(GraphIds.shortId(id.toString())).label(labelRegistry.render(vertexLabel, properties));
+        gv.setGroup(vertexLabel);
+        return gv;
+    }
+    
+    /**
+     * State of a bounded expansion, stages of an expansion are executed one after the other.
+     */
+    private final class Expansion {
+        
+        /** Vertices loaded, by DSE identifier. */
+        private final Map<String, GraphVertex> vertices = new LinkedHashMap<>();
+        
+        /** Vertices loaded or requested, by DSE identifier. */
+        private final Set<String> visited = new HashSet<>();
+        
+        /** Edges followed. */
+        private final List<GraphEdge> edges = new ArrayList<>();
+        
+        /** Supernodes labels, lower case. */
+        private final Set<String> supernodes = new HashSet<>();
+        
+        /** Some vertices were left aside. */
+        private boolean truncated = false;
+        
+        private Expansion() {
+            for (String label : supernodeLabels) {
+                if (!label.trim().isEmpty()) supernodes.add(label.trim().toLowerCase(Locale.ENGLISH));
+            }
+        }
+        
+        /**
+         * Add vertices of a result within the budget.
+         *
+         * @return
+         *      identifiers of vertices to expand
+         */
+        private List<GraphNode> addVertices(GraphResultSet gras) {
+            List<GraphNode> frontier = new ArrayList<>();
+            for (GraphNode gn : gras) {
+                GraphNode id = vertexId(gn);
+                if (id == null || vertices.containsKey(id.toString())) {
+                    continue;
                 }
-                if (sysAPL != null) {
-                    label+= " (" + sysAPL.getValue().asString() + ")" ;
+                if (vertices.size() >= expansionMaxVertices) {
+                    truncated = true;
+                    break;
                 }
-                if (!"".equals(label)) {
-                    gv.setLabel(label);
+                GraphVertex vertex = toGraphVertex(gn);
+                visited.add(id.toString());
+                vertices.put(id.toString(), vertex);
+                if (supernodes.contains(vertex.getGroup().toLowerCase(Locale.ENGLISH))) {
+                    markTruncated(vertex);
+                } else {
+                    frontier.add(id);
                 }
-            } else if ("vehicule".equalsIgnoreCase(v.getLabel())) {
-                VertexProperty vin = v.getProperty("vin_no");
-                String label = "";
-                if (vin != null) {
-                    label+= vin.getValue().asString();
+            }
+            return frontier;
+        }
+        
+        /**
+         * Keep edges of each vertex up to the fan-out.
+         *
+         * @return
+         *      identifiers of new neighbours, within the budget
+         */
+        private List<GraphNode> addEdges(GraphResultSet gras) {
+            List<GraphNode> neighbours = new ArrayList<>();
+            for (GraphNode gn : gras) {
+                String sourceId        = gn.get(KEY_ID).toString();
+                GraphVertex source     = vertices.get(sourceId);
+                GraphNode sourceEdges  = gn.get(KEY_EDGES);
+                if (sourceEdges.size() > expansionFanOut) {
+                    markTruncated(source);
                 }
-                if (!"".equals(label)) {
-                    gv.setLabel(label);
+                for (int idx = 0; idx < Math.min(sourceEdges.size(), expansionFanOut); idx++) {
+                    Edge e = sourceEdges.get(idx).asEdge();
+                    GraphNode other = sourceId.equals(e.getOutV().toString()) ? e.getInV() : e.getOutV();
+                    if (!visited.contains(other.toString())) {
+                        if (vertices.size() + neighbours.size() >= expansionMaxVertices) {
+                            markTruncated(source);
+                            continue;
+                        }
+                        visited.add(other.toString());
+                        neighbours.add(other);
+                    }
+                    edges.add(toGraphEdge(e));
                 }
             }
-            gv.setGroup(v.getLabel());
-            graph.addVertex(gv);
-            
-        } else if (gn.isEdge()) {
-            Edge e = gn.asEdge();
-            graph.addEdge(new GraphEdge(e.getOutV().toString(), e.getInV().toString()));
-         }
+            return neighbours;
+        }
+        
+        private void markTruncated(GraphVertex vertex) {
+            if (vertex != null) {
+                vertex.setTruncated(true);
+            }
+            truncated = true;
+        }
+        
+        /**
+         * Vertices and the edges between them.
+         */
+        private VizJsGraph toGraph() {
+            VizJsGraph graph = new VizJsGraph();
+            Set<String> ids = new HashSet<>();
+            for (GraphVertex vertex : vertices.values()) {
+                graph.addVertex(vertex);
+                ids.add(vertex.getId());
+            }
+            edges.stream().filter(e -> ids.contains(e.getFrom()) && ids.contains(e.getTo())).forEach(graph::addEdge);
+            if (truncated) {
+                graph.setTruncated(true);
+            }
+            return graph;
+        }
     }
     
     // ----- Custom Queries ---------
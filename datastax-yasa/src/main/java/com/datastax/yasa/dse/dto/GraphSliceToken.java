@@ -0,0 +1,324 @@
+package com.datastax.yasa.dse.dto;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Position in a progressive loading of a graph: graph loaded, how vertices are selected, where the next slice
+ * starts and how big it is. Exchanged with the client as an opaque string.
+ *
+ * @author DataStax evangelist team.
+ */
+public final class GraphSliceToken {
+
+    /** How vertices of a slice are selected. */
+    public static enum Strategy {
+        /** Vertices of a label ordered by a key, the next slice starts after the last key read. */
+        LABEL,
+        /** Random sample of each window of vertices, windows are consecutive and read from an offset (exploration of small graphs only). */
+        SAMPLE;
+
+        /**
+         * Parse a strategy name, case insensitive.
+         *
+         * @param name
+         *      strategy name
+         * @return
+         *      strategy
+         */
+        public static Strategy parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+            } catch(RuntimeException e) {
+                throw new IllegalArgumentException("Unknown slice strategy '" + name + "'");
+            }
+        }
+    }
+
+    /** Separator of fields in the token, fields are URL encoded. */
+    private static final String SEPARATOR = "|";
+
+    /** Prefix of a numeric or text key in the token. */
+    private static final char NUMBER = 'n';
+    private static final char TEXT   = 's';
+
+    /** Value of the chained flag in the token. */
+    private static final String CHAINED = "c";
+
+    /** A sampled slice picks its vertices among this number of slices. */
+    public static final int SAMPLE_WINDOW = 10;
+
+    /** Graph loaded, a token is only valid for this graph. */
+    private final String graphName;
+
+    /** Selection of vertices. */
+    private final Strategy strategy;
+
+    /** Vertex label to load only, optional except for LABEL. */
+    private final String label;
+
+    /** Property ordering vertices of the label (LABEL only). */
+    private final String key;
+
+    /** Last key read by the previous slice, null for the first slice (LABEL only). */
+    private final Object after;
+
+    /** Slices continue with the following configured label once the vertices of this one are all read (LABEL only). */
+    private final boolean chained;
+
+    /** Index of the first vertex read for the slice (SAMPLE only). */
+    private final long offset;
+
+    /** Maximum number of vertices in a slice. */
+    private final int size;
+
+    /**
+     * Full constructor.
+     */
+    private GraphSliceToken(String graphName, Strategy strategy, String label, String key, Object after, boolean chained, long offset, int size) {
+        if (graphName == null || graphName.isEmpty()) {
+            throw new IllegalArgumentException("Graph name is required");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Slice strategy is required");
+        }
+        if (strategy == Strategy.LABEL && (label == null || label.isEmpty() || key == null || key.isEmpty())) {
+            throw new IllegalArgumentException("A vertex label and its key are required to load slices by label");
+        }
+        if (offset < 0 || size <= 0) {
+            throw new IllegalArgumentException("Invalid slice offset " + offset + " or size " + size);
+        }
+        this.graphName = graphName;
+        this.strategy  = strategy;
+        this.label     = (label == null || label.isEmpty()) ? null : label;
+        this.key       = (strategy == Strategy.LABEL) ? key : null;
+        this.after     = after;
+        this.chained   = (strategy == Strategy.LABEL) && chained;
+        this.offset    = offset;
+        this.size      = size;
+    }
+
+    /**
+     * First slice of sampled vertices.
+     *
+     * @param graphName
+     *      graph loaded
+     * @param label
+     *      vertex label (optional)
+     * @param size
+     *      number of vertices per slice
+     * @return
+     *      token of the first slice
+     */
+    public static GraphSliceToken sample(String graphName, String label, int size) {
+        return new GraphSliceToken(graphName, Strategy.SAMPLE, label, null, null, false, 0, size);
+    }
+
+    /**
+     * First slice of the vertices of a label.
+     *
+     * @param graphName
+     *      graph loaded
+     * @param label
+     *      vertex label
+     * @param key
+     *      property ordering vertices, unique (text or integer)
+     * @param size
+     *      number of vertices per slice
+     * @return
+     *      token of the first slice
+     */
+    public static GraphSliceToken byLabel(String graphName, String label, String key, int size) {
+        return new GraphSliceToken(graphName, Strategy.LABEL, label, key, null, false, 0, size);
+    }
+
+    /**
+     * First slice of the vertices of a label, followed by the vertices of other labels (see {@link #following(String, String)}).
+     *
+     * @param graphName
+     *      graph loaded
+     * @param label
+     *      first vertex label
+     * @param key
+     *      property ordering vertices, unique (text or integer)
+     * @param size
+     *      number of vertices per slice
+     * @return
+     *      token of the first slice
+     */
+    public static GraphSliceToken byLabels(String graphName, String label, String key, int size) {
+        return new GraphSliceToken(graphName, Strategy.LABEL, label, key, null, true, 0, size);
+    }
+
+    /**
+     * Token of the first slice of another label, once all vertices of a chained label are read.
+     *
+     * @param nextLabel
+     *      following vertex label
+     * @param nextKey
+     *      property ordering its vertices
+     * @return
+     *      next token
+     */
+    public GraphSliceToken following(String nextLabel, String nextKey) {
+        return new GraphSliceToken(graphName, strategy, nextLabel, nextKey, null, chained, 0, size);
+    }
+
+    /**
+     * Index of the vertex following the ones read for a sampled slice, which reads {@link #SAMPLE_WINDOW}
+     * times more vertices than it returns.
+     *
+     * @return
+     *      end of the slice (exclusive)
+     */
+    public long getEnd() {
+        return offset + (strategy == Strategy.SAMPLE ? (long) size * SAMPLE_WINDOW : size);
+    }
+
+    /**
+     * Token of the following slice.
+     *
+     * @param lastKey
+     *      key of the last vertex of the slice (LABEL only)
+     * @return
+     *      next token
+     */
+    public GraphSliceToken next(Object lastKey) {
+        if (strategy == Strategy.LABEL) {
+            if (!(lastKey instanceof Number || lastKey instanceof String)) {
+                throw new IllegalArgumentException("Key '" + key + "' of label '" + label + "' must be a text or an integer");
+            }
+            return new GraphSliceToken(graphName, strategy, label, key,
+                    (lastKey instanceof Number) ? (Object) ((Number) lastKey).longValue() : lastKey, chained, 0, size);
+        }
+        return new GraphSliceToken(graphName, strategy, label, null, null, false, getEnd(), size);
+    }
+
+    /**
+     * Parse the value returned by {@link #toString()}.
+     *
+     * @param token
+     *      token as provided by the client
+     * @return
+     *      parsed token
+     */
+    public static GraphSliceToken fromString(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = decoded.split("\\" + SEPARATOR, -1);
+            String after = decode(fields[6]);
+            return new GraphSliceToken(decode(fields[0]), Strategy.valueOf(fields[1]), decode(fields[2]), decode(fields[3]),
+                    after.isEmpty() ? null : (after.charAt(0) == NUMBER ? (Object) Long.parseLong(after.substring(1)) : after.substring(1)),
+                    fields.length > 7 && CHAINED.equals(fields[7]), Long.parseLong(fields[4]), Integer.parseInt(fields[5]));
+        } catch(RuntimeException | UnsupportedEncodingException e) {
+            throw new IllegalArgumentException("Invalid continuation token " + token, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        try {
+            String value = encode(graphName) + SEPARATOR + strategy.name() + SEPARATOR + encode(label) + SEPARATOR + encode(key)
+                    + SEPARATOR + offset + SEPARATOR + size + SEPARATOR
+                    + encode((after == null) ? null : ((after instanceof Number) ? NUMBER : TEXT) + after.toString())
+                    + SEPARATOR + (chained ? CHAINED : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        } catch(UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String field) throws UnsupportedEncodingException {
+        return (field == null) ? "" : URLEncoder.encode(field, StandardCharsets.UTF_8.name());
+    }
+
+    private static String decode(String field) throws UnsupportedEncodingException {
+        return URLDecoder.decode(field, StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Getter accessor for attribute 'graphName'.
+     *
+     * @return
+     *       current value of 'graphName'
+     */
+    public String getGraphName() {
+        return graphName;
+    }
+
+    /**
+     * Getter accessor for attribute 'strategy'.
+     *
+     * @return
+     *       current value of 'strategy'
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Getter accessor for attribute 'label'.
+     *
+     * @return
+     *       current value of 'label'
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Getter accessor for attribute 'key'.
+     *
+     * @return
+     *       current value of 'key'
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Getter accessor for attribute 'after'.
+     *
+     * @return
+     *       current value of 'after'
+     */
+    public Object getAfter() {
+        return after;
+    }
+
+    /**
+     * Getter accessor for attribute 'chained'.
+     *
+     * @return
+     *       current value of 'chained'
+     */
+    public boolean isChained() {
+        return chained;
+    }
+
+    /**
+     * Getter accessor for attribute 'offset'.
+     *
+     * @return
+     *       current value of 'offset'
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Getter accessor for attribute 'size'.
+     *
+     * @return
+     *       current value of 'size'
+     */
+    public int getSize() {
+        return size;
+    }
+
+}
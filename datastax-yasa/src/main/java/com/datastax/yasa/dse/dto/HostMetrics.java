@@ -0,0 +1,125 @@
+package com.datastax.yasa.dse.dto;
+
+import java.io.Serializable;
+
+/**
+ * Connections and requests in flight of the session on a host.
+ *
+ * @author DataStax evangelist team.
+ */
+public class HostMetrics implements Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = -2170537763931520164L;
+
+    /** Host address. */
+    private String address;
+
+    /** Host state (UP, DOWN). */
+    private String state;
+
+    /** Connections of the pool. */
+    private int openConnections;
+
+    /** Connections closing, kept until their requests complete. */
+    private int trashedConnections;
+
+    /** Requests sent and not yet answered. */
+    private int inFlightQueries;
+
+    /**
+     * Getter accessor for attribute 'address'.
+     *
+     * @return
+     *       current value of 'address'
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Setter accessor for attribute 'address'.
+     * @param address
+     * 		new value for 'address '
+     */
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    /**
+     * Getter accessor for attribute 'state'.
+     *
+     * @return
+     *       current value of 'state'
+     */
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * Setter accessor for attribute 'state'.
+     * @param state
+     * 		new value for 'state '
+     */
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    /**
+     * Getter accessor for attribute 'openConnections'.
+     *
+     * @return
+     *       current value of 'openConnections'
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * Setter accessor for attribute 'openConnections'.
+     * @param openConnections
+     * 		new value for 'openConnections '
+     */
+    public void setOpenConnections(int openConnections) {
+        this.openConnections = openConnections;
+    }
+
+    /**
+     * Getter accessor for attribute 'trashedConnections'.
+     *
+     * @return
+     *       current value of 'trashedConnections'
+     */
+    public int getTrashedConnections() {
+        return trashedConnections;
+    }
+
+    /**
+     * Setter accessor for attribute 'trashedConnections'.
+     * @param trashedConnections
+     * 		new value for 'trashedConnections '
+     */
+    public void setTrashedConnections(int trashedConnections) {
+        this.trashedConnections = trashedConnections;
+    }
+
+    /**
+     * Getter accessor for attribute 'inFlightQueries'.
+     *
+     * @return
+     *       current value of 'inFlightQueries'
+     */
+    public int getInFlightQueries() {
+        return inFlightQueries;
+    }
+
+    /**
+     * Setter accessor for attribute 'inFlightQueries'.
+     * @param inFlightQueries
+     * 		new value for 'inFlightQueries '
+     */
+    public void setInFlightQueries(int inFlightQueries) {
+        this.inFlightQueries = inFlightQueries;
+    }
+
+}
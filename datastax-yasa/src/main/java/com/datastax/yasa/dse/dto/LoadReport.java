@@ -0,0 +1,233 @@
+package com.datastax.yasa.dse.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk load: rows written or failed, batches and throughput.
+ *
+ * @author DataStax evangelist team.
+ */
+public class LoadReport implements Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = -1736016624357394627L;
+
+    /** Rows read from the source. */
+    private long rows;
+
+    /** Rows of the batches executed successfully. */
+    private long rowsWritten;
+
+    /** Rows of the batches in error. */
+    private long rowsFailed;
+
+    /** Batches executed. */
+    private long batches;
+
+    /** Batches in error. */
+    private long batchesFailed;
+
+    /** Rows of ranges completed by a previous load, skipped when resuming. */
+    private long rowsSkipped;
+
+    /** Rows written without the vertex they share with a previous row (already written). */
+    private long verticesDeduplicated;
+
+    /** Duration of the load. */
+    private long elapsedMillis;
+
+    /** First errors, for diagnostic. */
+    private List < String > errors = new ArrayList<>();
+
+    /**
+     * Rows written per second.
+     *
+     * @return
+     *      throughput of the load
+     */
+    public long getRowsPerSecond() {
+        return (elapsedMillis == 0) ? rowsWritten : rowsWritten * 1000 / elapsedMillis;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return rows + " rows read, " + rowsWritten + " written, " + rowsFailed + " failed, " + rowsSkipped + " skipped ("
+                + batchesFailed + "/" + batches + " batches failed, " + verticesDeduplicated + " vertices deduplicated) in " + elapsedMillis + " ms, "
+                + getRowsPerSecond() + " rows/s";
+    }
+
+    /**
+     * Getter accessor for attribute 'rows'.
+     *
+     * @return
+     *       current value of 'rows'
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Setter accessor for attribute 'rows'.
+     * @param rows
+     * 		new value for 'rows '
+     */
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Getter accessor for attribute 'rowsWritten'.
+     *
+     * @return
+     *       current value of 'rowsWritten'
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Setter accessor for attribute 'rowsWritten'.
+     * @param rowsWritten
+     * 		new value for 'rowsWritten '
+     */
+    public void setRowsWritten(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    /**
+     * Getter accessor for attribute 'rowsFailed'.
+     *
+     * @return
+     *       current value of 'rowsFailed'
+     */
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    /**
+     * Setter accessor for attribute 'rowsFailed'.
+     * @param rowsFailed
+     * 		new value for 'rowsFailed '
+     */
+    public void setRowsFailed(long rowsFailed) {
+        this.rowsFailed = rowsFailed;
+    }
+
+    /**
+     * Getter accessor for attribute 'batches'.
+     *
+     * @return
+     *       current value of 'batches'
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Setter accessor for attribute 'batches'.
+     * @param batches
+     * 		new value for 'batches '
+     */
+    public void setBatches(long batches) {
+        this.batches = batches;
+    }
+
+    /**
+     * Getter accessor for attribute 'batchesFailed'.
+     *
+     * @return
+     *       current value of 'batchesFailed'
+     */
+    public long getBatchesFailed() {
+        return batchesFailed;
+    }
+
+    /**
+     * Setter accessor for attribute 'batchesFailed'.
+     * @param batchesFailed
+     * 		new value for 'batchesFailed '
+     */
+    public void setBatchesFailed(long batchesFailed) {
+        this.batchesFailed = batchesFailed;
+    }
+
+    /**
+     * Getter accessor for attribute 'rowsSkipped'.
+     *
+     * @return
+     *       current value of 'rowsSkipped'
+     */
+    public long getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    /**
+     * Setter accessor for attribute 'rowsSkipped'.
+     * @param rowsSkipped
+     * 		new value for 'rowsSkipped '
+     */
+    public void setRowsSkipped(long rowsSkipped) {
+        this.rowsSkipped = rowsSkipped;
+    }
+
+    /**
+     * Getter accessor for attribute 'verticesDeduplicated'.
+     *
+     * @return
+     *       current value of 'verticesDeduplicated'
+     */
+    public long getVerticesDeduplicated() {
+        return verticesDeduplicated;
+    }
+
+    /**
+     * Setter accessor for attribute 'verticesDeduplicated'.
+     * @param verticesDeduplicated
+     * 		new value for 'verticesDeduplicated '
+     */
+    public void setVerticesDeduplicated(long verticesDeduplicated) {
+        this.verticesDeduplicated = verticesDeduplicated;
+    }
+
+    /**
+     * Getter accessor for attribute 'elapsedMillis'.
+     *
+     * @return
+     *       current value of 'elapsedMillis'
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Setter accessor for attribute 'elapsedMillis'.
+     * @param elapsedMillis
+     * 		new value for 'elapsedMillis '
+     */
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Getter accessor for attribute 'errors'.
+     *
+     * @return
+     *       current value of 'errors'
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Setter accessor for attribute 'errors'.
+     * @param errors
+     * 		new value for 'errors '
+     */
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+}
@@ -0,0 +1,343 @@
+package com.datastax.yasa.dse.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.QueryTrace;
+import com.datastax.driver.core.exceptions.TraceRetrievalException;
+
+/**
+ * How a query has been executed: hosts tried by the driver, speculative executions, paging and, when tracing
+ * is enabled, the events recorded by the coordinator and replicas in 'system_traces'.
+ *
+ * @author DataStax evangelist team.
+ */
+public class QueryTraceInfo implements Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = 4286359263140527093L;
+
+    /** Host which answered. */
+    private String queriedHost;
+
+    /** Hosts tried in order, the last one answered. */
+    private List<String> triedHosts = new ArrayList<>();
+
+    /** Speculative executions started. */
+    private int speculativeExecutions;
+
+    /** Index of the execution which answered, 0 for the initial one. */
+    private int successfulExecutionIndex;
+
+    /** Consistency level achieved, null unless the retry policy downgraded it. */
+    private String achievedConsistencyLevel;
+
+    /** Number of rows requested per page. */
+    private int fetchSize;
+
+    /** Whether more pages are available. */
+    private boolean morePages;
+
+    /** Warnings sent back by the server. */
+    private List<String> warnings = new ArrayList<>();
+
+    /** Trace identifier, null when tracing was not enabled. */
+    private String traceId;
+
+    /** Coordinator of the traced query. */
+    private String coordinator;
+
+    /** Request type (Execute CQL3 query, Execute CQL3 prepared query). */
+    private String requestType;
+
+    /** Duration measured by the coordinator in microseconds. */
+    private int durationMicros;
+
+    /** Events of the trace. */
+    private List<Event> events = new ArrayList<>();
+
+    /** Trace not retrieved (not yet written to 'system_traces'). */
+    private String traceError;
+
+    /**
+     * Default constructor.
+     */
+    public QueryTraceInfo() {
+    }
+
+    /**
+     * Copy execution info, the trace is fetched (blocking) from 'system_traces' when tracing was enabled.
+     *
+     * @param info
+     *      execution info of a result set
+     */
+    public QueryTraceInfo(ExecutionInfo info) {
+        this.queriedHost = address(info.getQueriedHost());
+        this.triedHosts  = info.getTriedHosts().stream().map(QueryTraceInfo::address).collect(Collectors.toList());
+        this.speculativeExecutions    = info.getSpeculativeExecutions();
+        this.successfulExecutionIndex = info.getSuccessfulExecutionIndex();
+        if (info.getAchievedConsistencyLevel() != null) {
+            this.achievedConsistencyLevel = info.getAchievedConsistencyLevel().name();
+        }
+        if (info.getStatement() != null) {
+            this.fetchSize = info.getStatement().getFetchSize();
+        }
+        this.morePages = info.getPagingState() != null;
+        if (info.getWarnings() != null) {
+            this.warnings.addAll(info.getWarnings());
+        }
+        QueryTrace trace = info.getQueryTrace();
+        if (trace != null) {
+            this.traceId = trace.getTraceId().toString();
+            try {
+                this.coordinator    = trace.getCoordinator().getHostAddress();
+                this.requestType    = trace.getRequestType();
+                this.durationMicros = trace.getDurationMicros();
+                for (QueryTrace.Event event : trace.getEvents()) {
+                    this.events.add(new Event(event));
+                }
+            } catch(TraceRetrievalException tre) {
+                this.traceError = tre.getMessage();
+            }
+        }
+    }
+
+    private static String address(Host host) {
+        return host == null ? null : host.getSocketAddress().getAddress().getHostAddress();
+    }
+
+    /**
+     * Event of a trace, elapsed time is relative to the start of the request on the source.
+     */
+    public static class Event implements Serializable {
+
+        /** Serial. */
+        private static final long serialVersionUID = -6079148431436512851L;
+
+        /** Activity. */
+        private String description;
+
+        /** Node recording the event. */
+        private String source;
+
+        /** Elapsed time on the source in microseconds. */
+        private int sourceElapsedMicros;
+
+        /** Thread recording the event. */
+        private String threadName;
+
+        /**
+         * Default constructor.
+         */
+        public Event() {
+        }
+
+        /**
+         * Copy event of the driver.
+         *
+         * @param event
+         *      event of a trace
+         */
+        public Event(QueryTrace.Event event) {
+            this.description = event.getDescription();
+            this.source      = event.getSource() == null ? null : event.getSource().getHostAddress();
+            this.sourceElapsedMicros = event.getSourceElapsedMicros();
+            this.threadName  = event.getThreadName();
+        }
+
+        /**
+         * Getter accessor for attribute 'description'.
+         *
+         * @return
+         *       current value of 'description'
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Getter accessor for attribute 'source'.
+         *
+         * @return
+         *       current value of 'source'
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Getter accessor for attribute 'sourceElapsedMicros'.
+         *
+         * @return
+         *       current value of 'sourceElapsedMicros'
+         */
+        public int getSourceElapsedMicros() {
+            return sourceElapsedMicros;
+        }
+
+        /**
+         * Getter accessor for attribute 'threadName'.
+         *
+         * @return
+         *       current value of 'threadName'
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'queriedHost'.
+     *
+     * @return
+     *       current value of 'queriedHost'
+     */
+    public String getQueriedHost() {
+        return queriedHost;
+    }
+
+    /**
+     * Getter accessor for attribute 'triedHosts'.
+     *
+     * @return
+     *       current value of 'triedHosts'
+     */
+    public List<String> getTriedHosts() {
+        return triedHosts;
+    }
+
+    /**
+     * Getter accessor for attribute 'speculativeExecutions'.
+     *
+     * @return
+     *       current value of 'speculativeExecutions'
+     */
+    public int getSpeculativeExecutions() {
+        return speculativeExecutions;
+    }
+
+    /**
+     * Getter accessor for attribute 'successfulExecutionIndex'.
+     *
+     * @return
+     *       current value of 'successfulExecutionIndex'
+     */
+    public int getSuccessfulExecutionIndex() {
+        return successfulExecutionIndex;
+    }
+
+    /**
+     * Getter accessor for attribute 'achievedConsistencyLevel'.
+     *
+     * @return
+     *       current value of 'achievedConsistencyLevel'
+     */
+    public String getAchievedConsistencyLevel() {
+        return achievedConsistencyLevel;
+    }
+
+    /**
+     * Getter accessor for attribute 'fetchSize'.
+     *
+     * @return
+     *       current value of 'fetchSize'
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'morePages'.
+     *
+     * @return
+     *       current value of 'morePages'
+     */
+    public boolean isMorePages() {
+        return morePages;
+    }
+
+    /**
+     * Getter accessor for attribute 'warnings'.
+     *
+     * @return
+     *       current value of 'warnings'
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Getter accessor for attribute 'traceId'.
+     *
+     * @return
+     *       current value of 'traceId'
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Getter accessor for attribute 'coordinator'.
+     *
+     * @return
+     *       current value of 'coordinator'
+     */
+    public String getCoordinator() {
+        return coordinator;
+    }
+
+    /**
+     * Getter accessor for attribute 'requestType'.
+     *
+     * @return
+     *       current value of 'requestType'
+     */
+    public String getRequestType() {
+        return requestType;
+    }
+
+    /**
+     * Getter accessor for attribute 'durationMicros'.
+     *
+     * @return
+     *       current value of 'durationMicros'
+     */
+    public int getDurationMicros() {
+        return durationMicros;
+    }
+
+    /**
+     * Getter accessor for attribute 'events'.
+     *
+     * @return
+     *       current value of 'events'
+     */
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    /**
+     * Getter accessor for attribute 'traceError'.
+     *
+     * @return
+     *       current value of 'traceError'
+     */
+    public String getTraceError() {
+        return traceError;
+    }
+
+    /**
+     * Whether tracing was enabled.
+     *
+     * @return
+     *       true if a trace identifier is available
+     */
+    public boolean isTraced() {
+        return traceId != null;
+    }
+
+}
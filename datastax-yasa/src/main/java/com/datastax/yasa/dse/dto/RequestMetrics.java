@@ -0,0 +1,205 @@
+package com.datastax.yasa.dse.dto;
+
+import java.io.Serializable;
+
+/**
+ * Latencies of a type of request (ad-hoc CQL, graph, schema) sent by the driver, in milliseconds.
+ *
+ * @author DataStax evangelist team.
+ */
+public class RequestMetrics implements Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = 4387245180671208093L;
+
+    /** Type of statement. */
+    private String type;
+
+    /** Requests sent (attempts). */
+    private long count;
+
+    /** Requests in error. */
+    private long errors;
+
+    /** Latencies, recent requests weigh more. */
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+
+    /** Sum of latencies since start. */
+    private double sumMillis;
+
+    /**
+     * Getter accessor for attribute 'type'.
+     *
+     * @return
+     *       current value of 'type'
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Setter accessor for attribute 'type'.
+     * @param type
+     * 		new value for 'type '
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Getter accessor for attribute 'count'.
+     *
+     * @return
+     *       current value of 'count'
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Setter accessor for attribute 'count'.
+     * @param count
+     * 		new value for 'count '
+     */
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    /**
+     * Getter accessor for attribute 'errors'.
+     *
+     * @return
+     *       current value of 'errors'
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Setter accessor for attribute 'errors'.
+     * @param errors
+     * 		new value for 'errors '
+     */
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Getter accessor for attribute 'meanMillis'.
+     *
+     * @return
+     *       current value of 'meanMillis'
+     */
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    /**
+     * Setter accessor for attribute 'meanMillis'.
+     * @param meanMillis
+     * 		new value for 'meanMillis '
+     */
+    public void setMeanMillis(double meanMillis) {
+        this.meanMillis = meanMillis;
+    }
+
+    /**
+     * Getter accessor for attribute 'p50Millis'.
+     *
+     * @return
+     *       current value of 'p50Millis'
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * Setter accessor for attribute 'p50Millis'.
+     * @param p50Millis
+     * 		new value for 'p50Millis '
+     */
+    public void setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    /**
+     * Getter accessor for attribute 'p95Millis'.
+     *
+     * @return
+     *       current value of 'p95Millis'
+     */
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    /**
+     * Setter accessor for attribute 'p95Millis'.
+     * @param p95Millis
+     * 		new value for 'p95Millis '
+     */
+    public void setP95Millis(double p95Millis) {
+        this.p95Millis = p95Millis;
+    }
+
+    /**
+     * Getter accessor for attribute 'p99Millis'.
+     *
+     * @return
+     *       current value of 'p99Millis'
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * Setter accessor for attribute 'p99Millis'.
+     * @param p99Millis
+     * 		new value for 'p99Millis '
+     */
+    public void setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * Getter accessor for attribute 'maxMillis'.
+     *
+     * @return
+     *       current value of 'maxMillis'
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Setter accessor for attribute 'maxMillis'.
+     * @param maxMillis
+     * 		new value for 'maxMillis '
+     */
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Getter accessor for attribute 'sumMillis'.
+     *
+     * @return
+     *       current value of 'sumMillis'
+     */
+    public double getSumMillis() {
+        return sumMillis;
+    }
+
+    /**
+     * Setter accessor for attribute 'sumMillis'.
+     * @param sumMillis
+     * 		new value for 'sumMillis '
+     */
+    public void setSumMillis(double sumMillis) {
+        this.sumMillis = sumMillis;
+    }
+
+}
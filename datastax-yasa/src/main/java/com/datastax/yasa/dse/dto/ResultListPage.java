@@ -4,12 +4,15 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.mapping.Mapper;
 import com.datastax.driver.mapping.Result;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Ease usage of the paginState.
@@ -60,6 +63,23 @@ public class ResultListPage < ENTITY > {
 		this(mapper.map(rs));
 	}
 	
+	/**
+	 * Constructor with a row mapper, only current page is read (no fetching).
+	 *
+	 * @param rs
+	 * 		result set
+	 * @param rowMapper
+	 * 		mapping from row to entity
+	 */
+	public ResultListPage(ResultSet rs, Function<Row, ENTITY> rowMapper) {
+		if (null != rs) {
+			IntStream.range(0, rs.getAvailableWithoutFetching())
+			         .forEach(item -> listOfResults.add(rowMapper.apply(rs.one())));
+			nextPage = Optional.ofNullable(rs.getExecutionInfo().getPagingState())
+			                   .map(PagingState::toString);
+		}
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString() {
@@ -99,9 +119,19 @@ public class ResultListPage < ENTITY > {
 	 *
 	 * @return current value of 'pagingState'
 	 */
+	@JsonIgnore
 	public Optional<String> getPagingState() {
 		return nextPage;
 	}
+	
+	/**
+	 * Getter for the resume token, null if this is the last page.
+	 *
+	 * @return current value of 'nextPage'
+	 */
+	public String getNextPage() {
+		return nextPage.orElse(null);
+	}
 
 	/**
 	 * Setter for attribute 'pagingState'.
@@ -1,8 +1,8 @@
 package com.datastax.yasa.dse.dto;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Display results in the Web UI.
@@ -26,8 +26,20 @@ public class TableResult {
     /** Columns Results */
     private LinkedHashMap<String, TableColumn> columns = new LinkedHashMap<>();
     
-    /** Value for cells. */
-    private List < LinkedHashMap<String, TableValue> > rows = new ArrayList<>();
+    /** Value for cells, stored by column. */
+    private TableRows rows = new TableRows();
+    
+    /** Current page, starting at 1. */
+    private int pageNumber = 1;
+    
+    /** Number of rows fetched per page. */
+    private int pageSize;
+    
+    /** Paging state to fetch next page, null for last page. */
+    private String nextPage;
+    
+    /** How the query has been executed, trace events when tracing was requested. */
+    private QueryTraceInfo trace;
 
     /**
      * Getter accessor for attribute 'executedQuery'.
@@ -125,12 +137,12 @@ public class TableResult {
     }
 
     /**
-     * Getter accessor for attribute 'rows'.
+     * Rows as read-only maps column name -> value, in column order.
      *
      * @return
      *       current value of 'rows'
      */
-    public List<LinkedHashMap<String, TableValue>> getRows() {
+    public List<Map<String, TableValue>> getRows() {
         return rows;
     }
 
@@ -139,8 +151,85 @@ public class TableResult {
      * @param rows
      * 		new value for 'rows '
      */
-    public void setRows(List<LinkedHashMap<String, TableValue>> rows) {
+    public void setRows(TableRows rows) {
         this.rows = rows;
     }
+
+    /**
+     * Getter accessor for attribute 'pageNumber'.
+     *
+     * @return
+     *       current value of 'pageNumber'
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Setter accessor for attribute 'pageNumber'.
+     * @param pageNumber
+     * 		new value for 'pageNumber '
+     */
+    public void setPageNumber(int pageNumber) {
+        this.pageNumber = pageNumber;
+    }
+
+    /**
+     * Getter accessor for attribute 'pageSize'.
+     *
+     * @return
+     *       current value of 'pageSize'
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Setter accessor for attribute 'pageSize'.
+     * @param pageSize
+     * 		new value for 'pageSize '
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'nextPage'.
+     *
+     * @return
+     *       current value of 'nextPage'
+     */
+    public String getNextPage() {
+        return nextPage;
+    }
+
+    /**
+     * Setter accessor for attribute 'nextPage'.
+     * @param nextPage
+     * 		new value for 'nextPage '
+     */
+    public void setNextPage(String nextPage) {
+        this.nextPage = nextPage;
+    }
+    
+
+    /**
+     * Getter accessor for attribute 'trace'.
+     *
+     * @return
+     *       current value of 'trace'
+     */
+    public QueryTraceInfo getTrace() {
+        return trace;
+    }
+
+    /**
+     * Setter accessor for attribute 'trace'.
+     * @param trace
+     * 		new value for 'trace '
+     */
+    public void setTrace(QueryTraceInfo trace) {
+        this.trace = trace;
+    }
     
 }
@@ -0,0 +1,211 @@
+package com.datastax.yasa.dse.dto;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Rows of a result page stored by column: names are stored once and each column is a single array,
+ * primitive for numbers and booleans. Rows are exposed as read-only maps column name -> {@link TableValue},
+ * values are created when a row is rendered and formatted only when displayed.
+ *
+ * @author DataStax evangelist team.
+ */
+public class TableRows extends AbstractList < Map < String, TableValue > > {
+
+    /** Column names, in display order. */
+    private final String[] columnNames;
+
+    /** One array per column (int[], long[], double[], float[], boolean[] or Object[]). */
+    private final Object[] columns;
+
+    /** Null cells per column, primitive arrays cannot hold them. */
+    private final BitSet[] nulls;
+
+    /** Number of rows. */
+    private final int size;
+
+    /**
+     * No rows.
+     */
+    public TableRows() {
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Copy values of rows, driver rows can be released afterwards.
+     *
+     * @param columnNames
+     *      columns to keep, in display order, all must be in the rows
+     * @param rows
+     *      rows of the page
+     */
+    public TableRows(Collection < String > columnNames, List < Row > rows) {
+        this.columnNames = columnNames.toArray(new String[columnNames.size()]);
+        this.size        = rows.size();
+        this.columns     = new Object[this.columnNames.length];
+        this.nulls       = new BitSet[this.columnNames.length];
+        for (int col = 0; col < this.columnNames.length; col++) {
+            nulls[col]   = new BitSet(size);
+            columns[col] = readColumn(rows, this.columnNames[col], nulls[col]);
+        }
+    }
+
+    /**
+     * Read a whole column in a typed array.
+     */
+    private Object readColumn(List < Row > rows, String columnName, BitSet nullValues) {
+        if (size == 0) {
+            return new Object[0];
+        }
+        ColumnDefinitions definitions = rows.get(0).getColumnDefinitions();
+        int idx = definitions.getIndexOf(columnName);
+        DataType.Name type = definitions.getType(idx).getName();
+        Object vector = newVector(type);
+        for (int i = 0; i < size; i++) {
+            Row row = rows.get(i);
+            if (row.isNull(idx)) {
+                nullValues.set(i);
+                continue;
+            }
+            switch (type) {
+                case INT:     ((int[])     vector)[i] = row.getInt(idx);    break;
+                case BIGINT:
+                case COUNTER: ((long[])    vector)[i] = row.getLong(idx);   break;
+                case DOUBLE:  ((double[])  vector)[i] = row.getDouble(idx); break;
+                case FLOAT:   ((float[])   vector)[i] = row.getFloat(idx);  break;
+                case BOOLEAN: ((boolean[]) vector)[i] = row.getBool(idx);   break;
+                default:      ((Object[])  vector)[i] = row.getObject(idx);
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Array for a column of the given type.
+     */
+    private Object newVector(DataType.Name type) {
+        switch (type) {
+            case INT:     return new int[size];
+            case BIGINT:
+            case COUNTER: return new long[size];
+            case DOUBLE:  return new double[size];
+            case FLOAT:   return new float[size];
+            case BOOLEAN: return new boolean[size];
+            default:      return new Object[size];
+        }
+    }
+
+    /**
+     * Raw value of a cell.
+     *
+     * @param rowIndex
+     *      row index
+     * @param columnIndex
+     *      column index
+     * @return
+     *      value as returned by the driver, null if not set
+     */
+    public Object getValue(int rowIndex, int columnIndex) {
+        if (nulls[columnIndex].get(rowIndex)) {
+            return null;
+        }
+        return Array.get(columns[columnIndex], rowIndex);
+    }
+
+    /**
+     * Getter accessor for attribute 'columnNames'.
+     *
+     * @return
+     *       current value of 'columnNames'
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(Arrays.asList(columnNames));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, TableValue> get(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IndexOutOfBoundsException("Row " + rowIndex + " (size " + size + ")");
+        }
+        return new RowView(rowIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cell as expected by the view.
+     */
+    private TableValue tableValue(int rowIndex, int columnIndex) {
+        TableValue tv = new TableValue();
+        tv.setColumnName(columnNames[columnIndex]);
+        tv.setRawValue(getValue(rowIndex, columnIndex));
+        return tv;
+    }
+
+    /**
+     * A row, columns in display order.
+     */
+    private final class RowView extends AbstractMap < String, TableValue > {
+
+        /** Index of the row. */
+        private final int rowIndex;
+
+        private RowView(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Set<Entry<String, TableValue>> entrySet() {
+            return new AbstractSet<Entry<String, TableValue>>() {
+
+                @Override
+                public Iterator<Entry<String, TableValue>> iterator() {
+                    return new Iterator<Entry<String, TableValue>>() {
+                        private int columnIndex = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return columnIndex < columnNames.length;
+                        }
+
+                        @Override
+                        public Entry<String, TableValue> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int col = columnIndex++;
+                            return new SimpleImmutableEntry<>(columnNames[col], tableValue(rowIndex, col));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columnNames.length;
+                }
+            };
+        }
+    }
+
+}
@@ -23,6 +23,10 @@ public class TableValue {
      *       current value of 'uiValue'
      */
     public String getUiValue() {
+        // Formatted when displayed only
+        if (uiValue == null && rawValue != null) {
+            uiValue = rawValue.toString();
+        }
         return uiValue;
     }
 
@@ -52,9 +56,7 @@ public class TableValue {
      */
     public void setRawValue(Object rawValue) {
         this.rawValue = rawValue;
-        if (rawValue != null) {
-            this.uiValue = rawValue.toString();
-        }
+        this.uiValue  = null;
     }
 
     /**
@@ -0,0 +1,243 @@
+package com.datastax.yasa.dse.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalize an ad-hoc CQL query to be prepared: literals are replaced by bind markers
+ * and whitespaces are collapsed, so that queries with the same shape share the same
+ * {@link com.datastax.driver.core.PreparedStatement}.
+ *
+ * Literals are kept as CQL text and can be parsed with {@link com.datastax.driver.core.TypeCodec#parse(String)}
+ * once the type of each bind marker is known.
+ *
+ * @author DataStax evangelist team.
+ */
+public class CqlNormalizer {
+
+    /** Statements where bind markers are allowed. */
+    private static final Set < String > DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+
+    /** Unquoted uuid literal. */
+    private static final Pattern UUID_LITERAL =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    /** Length of an uuid. */
+    private static final int UUID_LENGTH = 36;
+
+    /** Bind marker. */
+    private static final char BIND_MARKER = '?';
+
+    /**
+     * Hide default constructor.
+     */
+    private CqlNormalizer() {}
+
+    /**
+     * Normalize a query.
+     *
+     * @param cqlQuery
+     *      query as provided by the user
+     * @return
+     *      normalized query or null if the query cannot be prepared (DDL, batch, already bound, ...)
+     */
+    public static NormalizedQuery normalize(String cqlQuery) {
+        if (cqlQuery == null) return null;
+        String cql = cqlQuery.trim();
+        while (cql.endsWith(";")) {
+            cql = cql.substring(0, cql.length() - 1).trim();
+        }
+        int firstSpace = 0;
+        while (firstSpace < cql.length() && Character.isLetter(cql.charAt(firstSpace))) firstSpace++;
+        if (!DML_KEYWORDS.contains(cql.substring(0, firstSpace).toUpperCase(Locale.ENGLISH))) {
+            return null;
+        }
+
+        StringBuilder normalized = new StringBuilder(cql.length());
+        List < String > literals = new ArrayList<>();
+        int i = 0;
+        int len = cql.length();
+        while (i < len) {
+            char c = cql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < len && Character.isWhitespace(cql.charAt(i))) i++;
+                normalized.append(' ');
+
+            } else if (c == '\'') {
+                int end = endOfQuoted(cql, i, '\'');
+                if (end < 0) return null;
+                literals.add(cql.substring(i, end));
+                normalized.append(BIND_MARKER);
+                i = end;
+
+            } else if (c == '$' && cql.startsWith("$$", i)) {
+                int end = cql.indexOf("$$", i + 2);
+                if (end < 0) return null;
+                // Same literal as a single quoted string, this is what codecs can parse
+                literals.add("'" + cql.substring(i + 2, end).replace("'", "''") + "'");
+                normalized.append(BIND_MARKER);
+                i = end + 2;
+
+            } else if (c == '"') {
+                int end = endOfQuoted(cql, i, '"');
+                if (end < 0) return null;
+                normalized.append(cql, i, end);
+                i = end;
+
+            } else if (cql.startsWith("--", i) || cql.startsWith("//", i)) {
+                int end = cql.indexOf('\n', i);
+                i = (end < 0) ? len : end;
+
+            } else if (cql.startsWith("/*", i)) {
+                int end = cql.indexOf("*/", i + 2);
+                if (end < 0) return null;
+                i = end + 2;
+
+            } else if (c == BIND_MARKER || (c == ':' && i + 1 < len && isIdentifierStart(cql.charAt(i + 1)))) {
+                // Already using bind markers
+                return null;
+
+            } else if (isUuidAt(cql, i)) {
+                literals.add(cql.substring(i, i + UUID_LENGTH));
+                normalized.append(BIND_MARKER);
+                i += UUID_LENGTH;
+
+            } else if (isIdentifierStart(c)) {
+                int end = i;
+                while (end < len && isIdentifierPart(cql.charAt(end))) end++;
+                normalized.append(cql, i, end);
+                i = end;
+
+            } else if (Character.isDigit(c) || (c == '-' && isNegativeNumberAt(cql, i))) {
+                int end = endOfNumber(cql, i);
+                literals.add(cql.substring(i, end));
+                normalized.append(BIND_MARKER);
+                i = end;
+
+            } else {
+                normalized.append(c);
+                i++;
+            }
+        }
+        return new NormalizedQuery(normalized.toString().trim(), literals);
+    }
+
+    /**
+     * Position after the closing quote, quotes are escaped by doubling them.
+     */
+    private static int endOfQuoted(String cql, int start, char quote) {
+        int i = start + 1;
+        while (i < cql.length()) {
+            if (cql.charAt(i) == quote) {
+                if (i + 1 < cql.length() && cql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Numbers, blobs (0x...) and durations (1h30m) are read as a single literal.
+     */
+    private static int endOfNumber(String cql, int start) {
+        int i = start + 1;
+        while (i < cql.length()) {
+            char c = cql.charAt(i);
+            boolean exponentSign = (c == '+' || c == '-') && (cql.charAt(i - 1) == 'e' || cql.charAt(i - 1) == 'E');
+            if (Character.isLetterOrDigit(c) || c == '.' || exponentSign) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * A minus sign is part of the number when it does not follow an operand.
+     */
+    private static boolean isNegativeNumberAt(String cql, int i) {
+        if (i + 1 >= cql.length() || !Character.isDigit(cql.charAt(i + 1))) return false;
+        int previous = i - 1;
+        while (previous >= 0 && Character.isWhitespace(cql.charAt(previous))) previous--;
+        if (previous < 0) return true;
+        char p = cql.charAt(previous);
+        return !isIdentifierPart(p) && p != ')' && p != ']' && p != '"' && p != '\'';
+    }
+
+    /**
+     * Unquoted uuid not being part of an identifier.
+     */
+    private static boolean isUuidAt(String cql, int i) {
+        if (i + UUID_LENGTH > cql.length()) return false;
+        if (i > 0 && isIdentifierPart(cql.charAt(i - 1))) return false;
+        if (i + UUID_LENGTH < cql.length() && isIdentifierPart(cql.charAt(i + UUID_LENGTH))) return false;
+        return UUID_LITERAL.matcher(cql.substring(i, i + UUID_LENGTH)).matches();
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Query with bind markers and extracted literals.
+     */
+    public static final class NormalizedQuery {
+
+        /** Query with bind markers. */
+        private final String cql;
+
+        /** Literals as CQL text, in bind markers order. */
+        private final List < String > literals;
+
+        /**
+         * Full constructor.
+         */
+        private NormalizedQuery(String cql, List<String> literals) {
+            this.cql      = cql;
+            this.literals = Collections.unmodifiableList(literals);
+        }
+
+        /**
+         * Getter accessor for attribute 'cql'.
+         *
+         * @return
+         *       current value of 'cql'
+         */
+        public String getCql() {
+            return cql;
+        }
+
+        /**
+         * Getter accessor for attribute 'literals'.
+         *
+         * @return
+         *       current value of 'literals'
+         */
+        public List<String> getLiterals() {
+            return literals;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return cql + " " + literals;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.datastax.yasa.dse.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A line of a CSV file addressed by column index, fields are positions in the underlying buffer and decoded
+ * only when read. The same instance is reused for every line of a range: values must be read before the
+ * handler returns.
+ *
+ * @author DataStax evangelist team.
+ */
+public final class CsvRow {
+
+    /** Buffer holding the line. */
+    private ByteBuffer buffer;
+
+    /** Start and end (exclusive) of each field in the buffer. */
+    private int[] starts = new int[32];
+    private int[] ends   = new int[32];
+
+    /** Fields between double quotes, '""' must be unescaped. */
+    private boolean[] quoted = new boolean[32];
+
+    /** Number of fields of the line. */
+    private int size;
+
+    /** Reused to decode fields. */
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Start a new line.
+     */
+    void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size   = 0;
+    }
+
+    /**
+     * Add a field of the current line.
+     */
+    void addField(int start, int end, boolean isQuoted) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends   = Arrays.copyOf(ends, size * 2);
+            quoted = Arrays.copyOf(quoted, size * 2);
+        }
+        if (isQuoted) {
+            // Surrounding quotes are not part of the value
+            start++;
+            end = (end > start && buffer.get(end - 1) == '"') ? end - 1 : end;
+        }
+        starts[size] = start;
+        ends[size]   = end;
+        quoted[size] = isQuoted;
+        size++;
+    }
+
+    /**
+     * Number of fields of the line.
+     *
+     * @return
+     *      number of fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Value of a field.
+     *
+     * @param index
+     *      column index, resolved once from the header
+     * @return
+     *      value, null if the column is not in the file (negative index) or missing on this line
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        int length = ends[index] - starts[index];
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = buffer.get(starts[index] + i);
+        }
+        String value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        return quoted[index] ? value.replace("\"\"", "\"") : value;
+    }
+
+    /**
+     * Tell if a field has a value.
+     *
+     * @param index
+     *      column index, resolved once from the header
+     * @return
+     *      true if the field exists and is not empty
+     */
+    public boolean hasValue(int index) {
+        return index >= 0 && index < size && ends[index] > starts[index];
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.datastax.yasa.dse.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.AuthProvider;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.dse.DseCluster;
+import com.datastax.driver.dse.DseCluster.Builder;
+import com.datastax.driver.dse.DseSession;
+import com.datastax.driver.dse.auth.DsePlainTextAuthProvider;
+import com.datastax.driver.dse.graph.GraphOptions;
+import com.datastax.driver.dse.graph.GraphProtocol;
+
+/**
+ * Sessions shared by all tasks of a JVM (a Spark executor), one per configuration: the connection is established
+ * by the first task and reused by the following ones. Sessions and their clusters are closed when the JVM stops.
+ *
+ * @author DataStax evangelist team.
+ */
+public final class DseSessionRegistry {
+
+    /** Loger for that class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DseSessionRegistry.class);
+
+    // Configuration keys
+    public static final String KEY_CASSANDRA_CONTACTPOINT      = "dse.cassandra.contactPoints";
+    public static final String KEY_CASSANDRA_PORT              = "dse.cassandra.port";
+    public static final String KEY_CASSANDRA_USERNAME          = "dse.cassandra.username";
+    public static final String KEY_CASSANDRA_PASSWORD          = "dse.cassandra.password";
+    public static final String KEY_POOL_CORE_CONNECTIONS       = "dse.cassandra.pool.coreConnections";
+    public static final String KEY_POOL_MAX_CONNECTIONS        = "dse.cassandra.pool.maxConnections";
+    public static final String KEY_POOL_MAX_REQUESTS           = "dse.cassandra.pool.maxRequestsPerConnection";
+    public static final String KEY_POOL_TIMEOUT                = "dse.cassandra.pool.timeoutMillis";
+    public static final String KEY_GRAPH_TIMEOUT               = "dse.graph.timeout";
+
+    /** Sessions by configuration (sorted properties). */
+    private static final Map < String, DseSession > SESSIONS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DseSessionRegistry::closeAll, "dse-session-registry"));
+    }
+
+    /** Hide default constructor. */
+    private DseSessionRegistry() {}
+
+    /**
+     * Session for a configuration, connected on first call.
+     *
+     * @param config
+     *      connection properties
+     * @return
+     *      session shared in the JVM
+     */
+    public static DseSession getSession(Properties config) {
+        return SESSIONS.computeIfAbsent(new TreeMap<>(config).toString(), key -> connect(config));
+    }
+
+    /**
+     * Close all sessions and their clusters, invoked when the JVM stops.
+     */
+    public static void closeAll() {
+        for (String key : SESSIONS.keySet()) {
+            DseSession dseSession = SESSIONS.remove(key);
+            if (dseSession != null) {
+                try {
+                    dseSession.getCluster().close();
+                } catch(RuntimeException e) {
+                    LOGGER.warn("Cannot close connection to DSE: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static DseSession connect(Properties config) {
+        int    dsePort         = Integer.parseInt(config.getProperty(KEY_CASSANDRA_PORT, "9042"));
+        String dseUsername     = config.getProperty(KEY_CASSANDRA_USERNAME);
+        String dsePassword     = config.getProperty(KEY_CASSANDRA_PASSWORD);
+        int    dseGraphTimeout = Integer.parseInt(config.getProperty(KEY_GRAPH_TIMEOUT, "30000"));
+        List<String> contactPoints = Arrays.asList(config.getProperty(KEY_CASSANDRA_CONTACTPOINT).split(","));
+
+        LOGGER.info("Initializing connection to DSE Cluster");
+        Builder clusterConfig = new Builder();
+        LOGGER.info(" + DSE Contact Points : {}" , contactPoints);
+        contactPoints.stream().map(String::trim).forEach(clusterConfig::addContactPoint);
+        LOGGER.info(" + DSE DB Port : {}", dsePort);
+        clusterConfig.withPort(dsePort);
+        if (dseUsername != null && !"".equals(dseUsername)) {
+            AuthProvider cassandraAuthProvider = new DsePlainTextAuthProvider(dseUsername, dsePassword);
+            clusterConfig.withAuthProvider(cassandraAuthProvider);
+            LOGGER.info(" + With username  : {}", dseUsername);
+        }
+
+        // Connections are shared by all tasks of the JVM
+        int coreConnections = Integer.parseInt(config.getProperty(KEY_POOL_CORE_CONNECTIONS, "1"));
+        int maxConnections  = Integer.parseInt(config.getProperty(KEY_POOL_MAX_CONNECTIONS, "2"));
+        PoolingOptions poolingOptions = new PoolingOptions()
+                .setConnectionsPerHost(HostDistance.LOCAL, coreConnections, maxConnections)
+                .setConnectionsPerHost(HostDistance.REMOTE, 1, 1)
+                .setMaxRequestsPerConnection(HostDistance.LOCAL, Integer.parseInt(config.getProperty(KEY_POOL_MAX_REQUESTS, "1024")))
+                .setPoolTimeoutMillis(Integer.parseInt(config.getProperty(KEY_POOL_TIMEOUT, "5000")));
+        LOGGER.info(" + Pool : {} to {} connections per host", coreConnections, maxConnections);
+        clusterConfig.withPoolingOptions(poolingOptions);
+
+        GraphOptions graphOption = new GraphOptions();
+        graphOption.setReadTimeoutMillis(dseGraphTimeout);
+        graphOption.setGraphSubProtocol(GraphProtocol.GRAPHSON_2_0);
+        clusterConfig.withGraphOptions(graphOption);
+        clusterConfig.withoutJMXReporting();
+        DseCluster dseCluster = clusterConfig.build();
+        try {
+            return dseCluster.connect();
+        } catch(RuntimeException e) {
+            dseCluster.close();
+            throw e;
+        }
+    }
+
+}
@@ -2,8 +2,14 @@ package com.datastax.yasa.dse.utils;
 
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.concurrent.CompletableFuture;
@@ -12,9 +18,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.exceptions.InvalidQueryException;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.schemabuilder.SchemaBuilder;
+import com.datastax.driver.core.utils.Bytes;
 import com.datastax.driver.dse.DseSession;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -157,6 +166,45 @@ public class DseUtils {
         return completable;
     }
     
+    /**
+     * Map a row as an ordered map column name -> value, values are converted to types
+     * any JSON serializer can handle (blobs as hexadecimal, UDT and tuples as CQL literals).
+     *
+     * @param row
+     *      current row
+     * @return
+     *      map of values
+     */
+    public static Map<String, Object> mapRow(Row row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        int idx = 0;
+        for (ColumnDefinitions.Definition definition : row.getColumnDefinitions()) {
+            values.put(definition.getName(), mapCqlValue(row.getObject(idx++)));
+        }
+        return values;
+    }
+    
+    /**
+     * Convert driver values as JSON friendly objects.
+     */
+    private static Object mapCqlValue(Object value) {
+        if (value == null       || value instanceof String || 
+            value instanceof Number || value instanceof Boolean || value instanceof Date) {
+            return value;
+        } else if (value instanceof ByteBuffer) {
+            return Bytes.toHexString((ByteBuffer) value);
+        } else if (value instanceof Collection) {
+            List<Object> items = new ArrayList<>();
+            ((Collection<?>) value).forEach(item -> items.add(mapCqlValue(item)));
+            return items;
+        } else if (value instanceof Map) {
+            Map<String, Object> items = new LinkedHashMap<>();
+            ((Map<?,?>) value).forEach((k,v) -> items.put(String.valueOf(k), mapCqlValue(v)));
+            return items;
+        }
+        return value.toString();
+    }
+    
     @SuppressWarnings("rawtypes")
     public static <T extends GraphTraversal.Admin> String displayGraphTranserval(T graphTraversal) {
         return org.apache.tinkerpop.gremlin.groovy.jsr223.GroovyTranslator.of("g").translate(graphTraversal.getBytecode()); 
@@ -0,0 +1,104 @@
+package com.datastax.yasa.dse.utils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tell whether a Gremlin query typed by the user is a single Groovy expression, which can then be wrapped
+ * in a script as '( query )'. Scripts with statements (several lines, ';', 'def x = ...') are not.
+ *
+ * The check is conservative: anything unclear (comments, unbalanced brackets or quotes) is not a single
+ * expression and the query is then sent as is.
+ *
+ * @author DataStax evangelist team.
+ */
+public class GremlinExpression {
+
+    /** Keywords starting a statement. */
+    private static final Set < String > STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList(
+            "def", "import", "if", "for", "while", "return", "try", "switch", "class", "final"));
+
+    /**
+     * Hide default constructor.
+     */
+    private GremlinExpression() {}
+
+    /**
+     * Extract the single expression of a query.
+     *
+     * @param gremlinQuery
+     *      query as provided by the user
+     * @return
+     *      expression without trailing ';' or null if the query is not a single expression
+     */
+    public static String singleExpression(String gremlinQuery) {
+        if (gremlinQuery == null) return null;
+        String expression = gremlinQuery.trim();
+        while (expression.endsWith(";")) {
+            expression = expression.substring(0, expression.length() - 1).trim();
+        }
+        if (expression.isEmpty()) return null;
+        int firstWord = 0;
+        while (firstWord < expression.length() && Character.isJavaIdentifierPart(expression.charAt(firstWord))) firstWord++;
+        if (STATEMENT_KEYWORDS.contains(expression.substring(0, firstWord))) {
+            return null;
+        }
+        int depth = 0;
+        char quote = 0;
+        for (int idx = 0; idx < expression.length(); idx++) {
+            char c = expression.charAt(idx);
+            if (quote != 0) {
+                if (c == '\\') {
+                    idx++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\'':
+                case '"':
+                    quote = c;
+                break;
+                case '(':
+                case '[':
+                case '{':
+                    depth++;
+                break;
+                case ')':
+                case ']':
+                case '}':
+                    if (--depth < 0) return null;
+                break;
+                case '/':
+                    if (idx + 1 < expression.length() && (expression.charAt(idx + 1) == '/' || expression.charAt(idx + 1) == '*')) {
+                        return null;
+                    }
+                break;
+                case ';':
+                    if (depth == 0) return null;
+                break;
+                case '\n':
+                    if (depth == 0 && !continuesOnNextLine(expression, idx)) return null;
+                break;
+                default:
+                break;
+            }
+        }
+        return (depth == 0 && quote == 0) ? expression : null;
+    }
+
+    /**
+     * A line break inside an expression follows a '.' or ',' or precedes a '.' (chained steps).
+     */
+    private static boolean continuesOnNextLine(String expression, int lineBreak) {
+        int before = lineBreak - 1;
+        while (before >= 0 && Character.isWhitespace(expression.charAt(before))) before--;
+        int after = lineBreak + 1;
+        while (after < expression.length() && Character.isWhitespace(expression.charAt(after))) after++;
+        return (before >= 0 && (expression.charAt(before) == '.' || expression.charAt(before) == ','))
+                || (after < expression.length() && expression.charAt(after) == '.');
+    }
+
+}
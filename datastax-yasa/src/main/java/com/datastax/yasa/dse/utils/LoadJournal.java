@@ -0,0 +1,170 @@
+package com.datastax.yasa.dse.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checkpoints of a load, on local disk: ranges of the source file whose lines have all been written. Each range
+ * is appended and forced to disk when completed, a resumed load skips them. The journal is tied to the source
+ * (path, size, last modification) and to the size of ranges, it starts over if any of them changed.
+ *
+ * Journal is text, one header line per attribute then one line per range: 'range start end lines'. An incomplete
+ * last line (crash while writing) is ignored.
+ *
+ * @author DataStax evangelist team.
+ */
+public class LoadJournal implements Closeable {
+
+    /** Loger for that class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadJournal.class);
+
+    /** Prefix of range lines. */
+    private static final String RANGE = "range ";
+
+    /** Journal file. */
+    private final File journal;
+
+    /** Lines describing the source. */
+    private final List < String > header = new ArrayList<>();
+
+    /** Completed ranges, start to end and lines. */
+    private final Map < Long, long[] > completed = new HashMap<>();
+
+    /** Journal opened for append. */
+    private final FileChannel channel;
+
+    /**
+     * Open the journal of a load.
+     *
+     * @param journal
+     *      journal file
+     * @param source
+     *      file being loaded
+     * @param rangeSize
+     *      size of ranges of the source
+     * @param resume
+     *      keep ranges completed by a previous load of the same source, start over if false
+     */
+    public LoadJournal(File journal, File source, long rangeSize, boolean resume) {
+        this.journal = journal;
+        header.add("source " + source.getAbsolutePath());
+        header.add("size " + source.length());
+        header.add("modified " + source.lastModified());
+        header.add("rangeSize " + rangeSize);
+        try {
+            if (resume && journal.exists()) {
+                readPrevious();
+            }
+            rewrite();
+            this.channel = FileChannel.open(journal.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open journal " + journal, e);
+        }
+    }
+
+    /**
+     * Lines of a range completed by a previous load.
+     *
+     * @param start
+     *      first byte of the range
+     * @param end
+     *      byte following the range
+     * @return
+     *      number of lines written, -1 if the range is not completed
+     */
+    public synchronized long completedLines(long start, long end) {
+        long[] range = completed.get(start);
+        return (range != null && range[0] == end) ? range[1] : -1;
+    }
+
+    /**
+     * Record a completed range, on disk when the method returns.
+     *
+     * @param start
+     *      first byte of the range
+     * @param end
+     *      byte following the range
+     * @param lines
+     *      lines of the range
+     */
+    public synchronized void complete(long start, long end, long lines) {
+        completed.put(start, new long[] { end, lines });
+        try {
+            channel.write(ByteBuffer.wrap(rangeLine(start, end, lines).getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write journal " + journal, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Cannot close journal {}", journal, e);
+        }
+    }
+
+    /**
+     * Keep ranges of the previous load if it was on the same source.
+     */
+    private void readPrevious() throws IOException {
+        List<String> lines = Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8);
+        if (lines.size() < header.size() || !lines.subList(0, header.size()).equals(header)) {
+            LOGGER.warn("Journal {} is not for this source or range size, load starts over", journal);
+            return;
+        }
+        for (String line : lines.subList(header.size(), lines.size())) {
+            String[] chunks = line.split(" ");
+            if (line.startsWith(RANGE) && chunks.length == 4) {
+                try {
+                    completed.put(Long.parseLong(chunks[1]), new long[] { Long.parseLong(chunks[2]), Long.parseLong(chunks[3]) });
+                } catch (NumberFormatException e) {
+                    LOGGER.warn("Invalid line '{}' ignored in journal {}", line, journal);
+                }
+            }
+        }
+        LOGGER.info("Resuming load from journal {}: {} ranges completed", journal, completed.size());
+    }
+
+    /**
+     * Write header and ranges kept to a new file, replacing the journal at once.
+     */
+    private void rewrite() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : header) {
+            content.append(line).append('\n');
+        }
+        for (Map.Entry<Long, long[]> range : completed.entrySet()) {
+            content.append(rangeLine(range.getKey(), range.getValue()[0], range.getValue()[1]));
+        }
+        File tmp = new File(journal.getAbsoluteFile().getParentFile(), journal.getName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+            out.force(false);
+        }
+        Files.move(tmp.toPath(), journal.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String rangeLine(long start, long end, long lines) {
+        return RANGE + start + " " + end + " " + lines + "\n";
+    }
+
+}
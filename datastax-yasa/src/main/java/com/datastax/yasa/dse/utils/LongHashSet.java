@@ -0,0 +1,149 @@
+package com.datastax.yasa.dse.utils;
+
+/**
+ * Set of primitive longs (open addressing, linear probing): 8 bytes per slot and no boxing, to remember
+ * hashes of elements already seen. Number of values can be bounded to cap memory, values are then
+ * rejected once the set is full.
+ *
+ * @author DataStax evangelist team.
+ */
+public class LongHashSet {
+
+    /** Free slot marker, value 0 is tracked apart. */
+    private static final long FREE = 0L;
+
+    /** Resize when this ratio of slots is used. */
+    private static final double LOAD_FACTOR = 0.6;
+
+    /** Slots, length is a power of 2. */
+    private long[] slots;
+
+    /** Number of values, 0 excluded. */
+    private int size = 0;
+
+    /** Value 0 has been added. */
+    private boolean containsZero = false;
+
+    /** Maximum number of values. */
+    private final int maxSize;
+
+    /**
+     * Constructor with expected size.
+     *
+     * @param expectedSize
+     *      number of values expected, set grows beyond
+     */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor with expected and maximum sizes, the table never exceeds 2 x maxSize / {@link #LOAD_FACTOR}
+     * slots of 8 bytes.
+     *
+     * @param expectedSize
+     *      number of values expected, set grows beyond
+     * @param maxSize
+     *      maximum number of values
+     */
+    public LongHashSet(int expectedSize, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < Math.min(expectedSize, maxSize)) capacity <<= 1;
+        this.slots   = new long[capacity];
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value
+     *      value
+     * @return
+     *      true if the value was not in the set and has been added, false if it was in the set or the set is full
+     */
+    public boolean add(long value) {
+        if (value == FREE) {
+            boolean added = !containsZero && !isFull();
+            containsZero |= added;
+            return added;
+        }
+        if (isFull()) {
+            return false;
+        }
+        if (size + 1 > slots.length * LOAD_FACTOR) {
+            resize();
+        }
+        if (insert(slots, value)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check a value.
+     *
+     * @param value
+     *      value
+     * @return
+     *      true if the value is in the set
+     */
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        for (int idx = index(value, mask); slots[idx] != FREE; idx = (idx + 1) & mask) {
+            if (slots[idx] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Number of values.
+     *
+     * @return
+     *      size
+     */
+    public int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+
+    /**
+     * Tell if no more value can be added.
+     *
+     * @return
+     *      true when the maximum size is reached
+     */
+    public boolean isFull() {
+        return size() >= maxSize;
+    }
+
+    private void resize() {
+        long[] larger = new long[slots.length << 1];
+        for (long value : slots) {
+            if (value != FREE) insert(larger, value);
+        }
+        slots = larger;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int idx  = index(value, mask);
+        while (table[idx] != FREE) {
+            if (table[idx] == value) return false;
+            idx = (idx + 1) & mask;
+        }
+        table[idx] = value;
+        return true;
+    }
+
+    private static int index(long value, int mask) {
+        long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+}
@@ -0,0 +1,363 @@
+package com.datastax.yasa.dse.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Parse a CSV file with a header in parallel: the file is memory-mapped by ranges cut at line boundaries and
+ * each range is parsed by a worker thread into a single reused {@link CsvRow}. Columns are resolved once from
+ * the header with {@link #columnIndex(String)}.
+ *
+ * Fields may be double quoted ('""' to escape a quote) but must not contain line breaks. Lines are handled in
+ * order within a range, not across ranges. With a fixed range size, ranges only depend on the file: a load can
+ * record the ranges it completed and skip them when resumed.
+ *
+ * @author DataStax evangelist team.
+ */
+public class MappedCsvReader {
+
+    /** Loger for that class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedCsvReader.class);
+
+    /** Bounds of a range, several ranges per thread to balance the load. */
+    private static final long MIN_RANGE = 1L << 20;
+    private static final long MAX_RANGE = 1L << 26;
+    private static final int  RANGES_PER_THREAD = 4;
+
+    /** Source file. */
+    private final File file;
+
+    /** Column separator. */
+    private final byte separator;
+
+    /** Worker threads. */
+    private final int threads;
+
+    /** Size of ranges, computed from the file size and threads if not positive. */
+    private final long rangeSize;
+
+    /** Column names. */
+    private final List < String > header;
+
+    /** Position of the first line after the header. */
+    private final long dataStart;
+
+    /**
+     * Read the header.
+     *
+     * @param file
+     *      CSV file, UTF-8 with a header line
+     * @param separator
+     *      column separator
+     * @param threads
+     *      number of worker threads, available processors if not positive
+     */
+    public MappedCsvReader(File file, char separator, int threads) {
+        this(file, separator, threads, 0);
+    }
+
+    /**
+     * Read the header.
+     *
+     * @param file
+     *      CSV file, UTF-8 with a header line
+     * @param separator
+     *      column separator
+     * @param threads
+     *      number of worker threads, available processors if not positive
+     * @param rangeSize
+     *      approximate size of ranges in bytes (cut at the next line), computed if not positive
+     */
+    public MappedCsvReader(File file, char separator, int threads, long rangeSize) {
+        this.file      = file;
+        this.rangeSize = rangeSize;
+        this.separator = (byte) separator;
+        this.threads   = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            this.dataStart = readLine(channel, 0, line);
+            List<String> columns = new ArrayList<>();
+            CsvRow headerRow = new CsvRow();
+            parseLine(ByteBuffer.wrap(line.toByteArray()), 0, line.size(), headerRow);
+            for (int idx = 0; idx < headerRow.size(); idx++) {
+                columns.add(headerRow.get(idx).replace("\uFEFF", "").trim());
+            }
+            this.header = Collections.unmodifiableList(columns);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read header of " + file, e);
+        }
+    }
+
+    /**
+     * Column names.
+     *
+     * @return
+     *      header of the file
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Index of a column, to be resolved once and used for every row.
+     *
+     * @param columnName
+     *      column name
+     * @return
+     *      index or -1 if the column is not in the file
+     */
+    public int columnIndex(String columnName) {
+        return header.indexOf(columnName);
+    }
+
+    /**
+     * Parse all lines, the handler is invoked concurrently by the worker threads and must be thread safe.
+     * The row is reused, values must be read before the handler returns.
+     *
+     * @param handler
+     *      invoked for each line
+     * @return
+     *      number of lines parsed
+     */
+    public long read(Consumer<CsvRow> handler) {
+        return readRanges(range -> handler::accept);
+    }
+
+    /**
+     * Parse lines range by range: a handler is asked for each range and invoked by a single worker thread for
+     * all lines of the range, then notified with {@link RangeHandler#parsed(long)}. Handlers of different ranges
+     * run concurrently. The row is reused, values must be read before the handler returns.
+     *
+     * @param handlers
+     *      handler of the lines of a range, null to skip the range
+     * @return
+     *      number of lines parsed
+     */
+    public long readRanges(Function<Range, RangeHandler> handlers) {
+        ExecutorService workers = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("csv-parser-%d").build());
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<Range> ranges = splitRanges(channel);
+            LOGGER.info("Parsing {} with {} threads, {} ranges", file.getName(), threads, ranges.size());
+            List<Future<Long>> results = new ArrayList<>();
+            for (Range range : ranges) {
+                results.add(workers.submit(() -> parseRange(channel, range, handlers)));
+            }
+            long lines = 0;
+            for (Future<Long> result : results) {
+                lines += result.get();
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + file, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Cannot parse " + file, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing " + file, e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Cut the data in ranges ending at a line boundary.
+     */
+    private List<Range> splitRanges(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long target = (size - dataStart) / ((long) threads * RANGES_PER_THREAD) + 1;
+        long rangeSize = (this.rangeSize > 0) ? this.rangeSize : Math.max(MIN_RANGE, Math.min(MAX_RANGE, target));
+        List<Range> ranges = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long end = Math.min(size, start + rangeSize);
+            if (end < size) {
+                end = readLine(channel, end, null);
+            }
+            ranges.add(new Range(start, end));
+            start = end;
+        }
+        return ranges;
+    }
+
+    /**
+     * Read up to the end of the line.
+     *
+     * @return
+     *      position following the line break (or end of file)
+     */
+    private static long readLine(FileChannel channel, long position, ByteArrayOutputStream line) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(8192);
+        long pos = position;
+        while (true) {
+            chunk.clear();
+            int read = channel.read(chunk, pos);
+            if (read <= 0) {
+                return pos;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = chunk.get(i);
+                if (b == '\n') {
+                    return pos + i + 1;
+                }
+                if (line != null) {
+                    line.write(b);
+                }
+            }
+            pos += read;
+        }
+    }
+
+    /**
+     * Parse lines of a range.
+     */
+    private long parseRange(FileChannel channel, Range range, Function<Range, RangeHandler> handlers) throws IOException {
+        RangeHandler handler = handlers.apply(range);
+        if (handler == null) {
+            return 0;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, range.getStart(), range.getEnd() - range.getStart());
+        CsvRow row = new CsvRow();
+        int limit  = buffer.limit();
+        int pos    = 0;
+        long lines = 0;
+        while (pos < limit) {
+            int next = parseLine(buffer, pos, limit, row);
+            if (row.size() > 1 || row.hasValue(0)) {
+                handler.accept(row);
+                lines++;
+            }
+            pos = next;
+        }
+        handler.parsed(lines);
+        return lines;
+    }
+
+    /**
+     * Split a line in fields.
+     *
+     * @return
+     *      position of the next line
+     */
+    private int parseLine(ByteBuffer buffer, int start, int limit, CsvRow row) {
+        row.reset(buffer);
+        int fieldStart   = start;
+        boolean inQuotes = false;
+        boolean quoted   = false;
+        int pos = start;
+        while (pos < limit) {
+            byte b = buffer.get(pos);
+            if (inQuotes) {
+                if (b == '"') {
+                    if (pos + 1 < limit && buffer.get(pos + 1) == '"') {
+                        pos++;
+                    } else {
+                        inQuotes = false;
+                    }
+                }
+            } else if (b == '"' && pos == fieldStart) {
+                inQuotes = true;
+                quoted   = true;
+            } else if (b == separator) {
+                row.addField(fieldStart, pos, quoted);
+                fieldStart = pos + 1;
+                quoted     = false;
+            } else if (b == '\n') {
+                break;
+            }
+            pos++;
+        }
+        int lineEnd = (pos > fieldStart && buffer.get(pos - 1) == '\r') ? pos - 1 : pos;
+        row.addField(fieldStart, Math.max(fieldStart, lineEnd), quoted);
+        return pos + 1;
+    }
+
+    /**
+     * Lines of a range, invoked by a single worker thread.
+     */
+    @FunctionalInterface
+    public interface RangeHandler extends Consumer<CsvRow> {
+
+        /**
+         * All lines of the range have been handled.
+         *
+         * @param lines
+         *      number of lines of the range
+         */
+        default void parsed(long lines) {}
+    }
+
+    /**
+     * Bytes of the file from a line start (inclusive) to a line start or the end of file (exclusive).
+     */
+    public static final class Range {
+
+        /** First byte. */
+        private final long start;
+
+        /** Byte following the last line. */
+        private final long end;
+
+        /**
+         * Constructor with bounds.
+         *
+         * @param start
+         *      first byte
+         * @param end
+         *      byte following the last line
+         */
+        public Range(long start, long end) {
+            this.start = start;
+            this.end   = end;
+        }
+
+        /**
+         * Getter accessor for attribute 'start'.
+         *
+         * @return
+         *       current value of 'start'
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * Getter accessor for attribute 'end'.
+         *
+         * @return
+         *       current value of 'end'
+         */
+        public long getEnd() {
+            return end;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "[" + start + "," + end + ")";
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.datastax.yasa.dse.utils;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Latency of requests by type of statement (ad-hoc CQL, graph, schema) in a metric registry: a timer
+ * 'requests.&lt;type&gt;' (histogram of latencies), a counter 'requests.&lt;type&gt;.nanos' (sum of latencies)
+ * and a counter 'requests.&lt;type&gt;.errors'. The driver
+ * notifies every attempt, retries and speculative executions included.
+ *
+ * @author DataStax evangelist team.
+ */
+public class RequestLatencyTracker implements LatencyTracker {
+
+    /** Graph options are sent in the custom payload of graph requests. */
+    private static final String PAYLOAD_GRAPH_LANGUAGE = "graph-language";
+
+    /** Type of statement. */
+    public static enum RequestType { CQL, GRAPH, SCHEMA };
+
+    /** Latencies by type. */
+    private final Map < RequestType, Timer > timers = new EnumMap<>(RequestType.class);
+
+    /** Sum of latencies by type. */
+    private final Map < RequestType, Counter > nanos = new EnumMap<>(RequestType.class);
+
+    /** Errors by type. */
+    private final Map < RequestType, Counter > errors = new EnumMap<>(RequestType.class);
+
+    /**
+     * Register timers and counters.
+     *
+     * @param registry
+     *      target registry
+     */
+    public RequestLatencyTracker(MetricRegistry registry) {
+        for (RequestType type : RequestType.values()) {
+            timers.put(type, registry.timer(timerName(type)));
+            nanos.put(type, registry.counter(timerName(type) + ".nanos"));
+            errors.put(type, registry.counter(timerName(type) + ".errors"));
+        }
+    }
+
+    /**
+     * Name of the timer of a type of statement.
+     *
+     * @param type
+     *      type of statement
+     * @return
+     *      metric name
+     */
+    public static String timerName(RequestType type) {
+        return "requests." + type.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Type of a statement: graph statements carry graph options in their payload, schema statements are DDL.
+     *
+     * @param statement
+     *      statement sent
+     * @return
+     *      type of statement
+     */
+    public static RequestType classify(Statement statement) {
+        if (statement.getOutgoingPayload() != null && statement.getOutgoingPayload().containsKey(PAYLOAD_GRAPH_LANGUAGE)) {
+            return RequestType.GRAPH;
+        }
+        String cql = null;
+        if (statement instanceof RegularStatement) {
+            cql = ((RegularStatement) statement).getQueryString();
+        } else if (statement instanceof BoundStatement) {
+            cql = ((BoundStatement) statement).preparedStatement().getQueryString();
+        }
+        return isSchema(cql) ? RequestType.SCHEMA : RequestType.CQL;
+    }
+
+    /**
+     * Statements changing the schema.
+     */
+    private static boolean isSchema(String cql) {
+        if (cql == null) {
+            return false;
+        }
+        String verb = cql.trim();
+        int space = verb.indexOf(' ');
+        verb = (space > 0 ? verb.substring(0, space) : verb).toUpperCase(Locale.ENGLISH);
+        return "CREATE".equals(verb) || "ALTER".equals(verb) || "DROP".equals(verb) || "TRUNCATE".equals(verb);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+        RequestType type = classify(statement);
+        timers.get(type).update(newLatencyNanos, TimeUnit.NANOSECONDS);
+        nanos.get(type).inc(newLatencyNanos);
+        if (exception != null) {
+            errors.get(type).inc();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRegister(Cluster cluster) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onUnregister(Cluster cluster) {}
+
+}
@@ -5,9 +5,7 @@ import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.addV;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.SimpleDateFormat;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
 
@@ -18,14 +16,11 @@ import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.AuthProvider;
-import com.datastax.driver.dse.DseCluster.Builder;
 import com.datastax.driver.dse.DseSession;
-import com.datastax.driver.dse.auth.DsePlainTextAuthProvider;
-import com.datastax.driver.dse.graph.GraphOptions;
-import com.datastax.driver.dse.graph.GraphProtocol;
 import com.datastax.dse.graph.api.DseGraph;
 import com.datastax.dse.graph.api.TraversalBatch;
+import com.datastax.yasa.dse.dao.GraphBatchWriter;
+import com.datastax.yasa.dse.dto.LoadReport;
 import com.google.common.collect.ImmutableMap;
 
 /**
@@ -35,7 +30,8 @@ import com.google.common.collect.ImmutableMap;
  * those capabilities remotely you need BYOS (Bring your own spark) and have spark with same
  * version as DSE.
  * 
- * For older ENV wih spark 1.x we need to work with the Java Driver itself to connect to DSE to use graph 
+ * For older ENV wih spark 1.x we need to work with the Java Driver itself to connect to DSE to use graph. The
+ * session is shared by all tasks of an executor, see {@link DseSessionRegistry}.
  *
  * @author Cedrick LUNVEN (@clunven)
  */
@@ -45,12 +41,9 @@ public class SparkDseDriversBridge {
     protected static Logger LOGGER = LoggerFactory.getLogger(SparkDseDriversBridge.class);
     
     // Configuration file
-    private static final String KEY_CASSANDRA_CONTACTPOINT      = "dse.cassandra.contactPoints";
-    private static final String KEY_CASSANDRA_PORT              = "dse.cassandra.port";
-    private static final String KEY_CASSANDRA_USERNAME          = "dse.cassandra.username";
-    private static final String KEY_CASSANDRA_PASSWORD          = "dse.cassandra.password";
-    private static final String KEY_GRAPH_TIMEOUT               = "dse.graph.timeout";
     private static final String KEY_GRAPH_NAME                  = "dse.graph.name";
+    private static final String KEY_LOAD_BATCHSIZE              = "dse.graph.load.batchSize";
+    private static final String KEY_LOAD_MAXINFLIGHT            = "dse.graph.load.maxInFlight";
     
     // Info Graph
     private static final String VERTEX_CLUSTER               = "cluster";
@@ -75,23 +68,24 @@ public class SparkDseDriversBridge {
     private static final String COL_company_reg_no           = "company_reg_no";
     private static final String COL_company_name             = "company_name";
     private static final String COL_dob                      = "dob";
-    public static final String dob_date_format               = "yyyy-mm-dd";
-    public static final SimpleDateFormat dob_date_formatter  = new SimpleDateFormat(dob_date_format);
      
     /** Attributes for instances. */
     private Properties config;
     private DseSession dseSession;
     private String graphName;
+    private int loadBatchSize;
+    private int loadMaxInFlight;
     
     /** Singleton Pattern. */
     private static SparkDseDriversBridge instance;
     
-    /** Singleton Pattern. */
+    /** Singleton Pattern, created by the first task of the executor JVM. */
     public static synchronized SparkDseDriversBridge getInstance() {
-        if (instance != null) {
-            instance = new SparkDseDriversBridge();
-            instance.parseConfigFile("dse.properties");
-            instance.initConnectionToDse();
+        if (instance == null) {
+            SparkDseDriversBridge bridge = new SparkDseDriversBridge();
+            bridge.parseConfigFile("dse.properties");
+            bridge.dseSession = DseSessionRegistry.getSession(bridge.config);
+            instance = bridge;
         }
         return instance;
     }
@@ -99,17 +93,11 @@ public class SparkDseDriversBridge {
     /** Hide default constructor. */
     private SparkDseDriversBridge() {}
     
-    /** Initialization on Class loading. */
-    static { 
-        getInstance();
-    }
-    
     /**
-     * 
-     * rddRecord
-     * 
+     * Save one record with a synchronous batch, prefer {@link #saveToDseGraph_ClusterCustomer(Iterator)}.
      * 
      * @param rddRecord
+     *      columns of a line of the clusters file
      */
     void saveToDseGraph_ClusterCustomer(Map < String, String > rddRecord) {
         if (rddRecord != null) {
@@ -121,29 +109,33 @@ public class SparkDseDriversBridge {
         }
     }
     
-    private void initConnectionToDse() {
-        int    dsePort         = Integer.parseInt(config.getProperty(KEY_CASSANDRA_PORT, "9042"));
-        String dseUsername     = config.getProperty(KEY_CASSANDRA_USERNAME);
-        String dsePassword     = config.getProperty(KEY_CASSANDRA_PASSWORD);
-        int    dseGraphTimeout = Integer.parseInt(config.getProperty(KEY_GRAPH_TIMEOUT, "30000"));
-        List<String> contactPoints = Arrays.asList(config.getProperty(KEY_CASSANDRA_CONTACTPOINT).split(","));
-        
-        LOGGER.info("Initializing connection to DSE Cluster");
-        Builder clusterConfig = new Builder();
-        LOGGER.info(" + DSE Contact Points : {}" , contactPoints);
-        contactPoints.stream().forEach(clusterConfig::addContactPoint);
-        LOGGER.info(" + DSE DB Port : {}", dsePort);
-        clusterConfig.withPort(dsePort);
-        if (dseUsername != null && !"".equals(dseUsername)) {
-            AuthProvider cassandraAuthProvider = new DsePlainTextAuthProvider(dseUsername, dsePassword);
-            clusterConfig.withAuthProvider(cassandraAuthProvider);
-            LOGGER.info(" + With username  : {}", dseUsername);
-        }
-        GraphOptions graphOption = new GraphOptions();
-        graphOption.setReadTimeoutMillis(dseGraphTimeout);
-        graphOption.setGraphSubProtocol(GraphProtocol.GRAPHSON_2_0);
-        clusterConfig.withGraphOptions(graphOption);
-        dseSession = clusterConfig.build().connect();
+    /**
+     * Save records of a partition (for rdd.foreachPartition): records are sent by batches of 'dse.graph.load.batchSize'
+     * (100) executed asynchronously, with at most 'dse.graph.load.maxInFlight' (8) batches in flight. The method returns
+     * once all batches have completed. A failed batch is counted in the report and the partition goes on, records
+     * are upserts and the partition can be saved again.
+     * 
+     * @param partition
+     *      columns of lines of the clusters file
+     * @return
+     *      rows written and failed
+     */
+    public LoadReport saveToDseGraph_ClusterCustomer(Iterator < Map < String, String > > partition) {
+        GraphBatchWriter writer = new GraphBatchWriter(dseSession, graphName, loadBatchSize, loadMaxInFlight);
+        try {
+            while (partition.hasNext()) {
+                Map < String, String > rddRecord = partition.next();
+                if (rddRecord != null) {
+                    writer.addRow(parseClusterVertexFromCsvLine(rddRecord), 
+                            parseCustomerVertexFromCsvLine(rddRecord), 
+                            parseClusterCustomerEdgesFromCsvLine(rddRecord));
+                }
+            }
+        } catch(RuntimeException e) {
+            writer.finish();
+            throw e;
+        }
+        return writer.finish();
     }
     
     /**
@@ -166,7 +158,10 @@ public class SparkDseDriversBridge {
         } catch (IOException e) {
             throw new IllegalStateException("Cannot parse file" + fileName + " please check file content.");
         }
-        graphName = config.getProperty(KEY_GRAPH_NAME);
+        config          = propertiesConfigDse;
+        graphName       = config.getProperty(KEY_GRAPH_NAME);
+        loadBatchSize   = Integer.parseInt(config.getProperty(KEY_LOAD_BATCHSIZE, "100"));
+        loadMaxInFlight = Integer.parseInt(config.getProperty(KEY_LOAD_MAXINFLIGHT, "8"));
     }
 
     private GraphTraversal<Object, Edge> parseClusterCustomerEdgesFromCsvLine(Map<String, String> csvLine) {
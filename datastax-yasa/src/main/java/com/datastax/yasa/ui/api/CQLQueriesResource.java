@@ -1,5 +1,145 @@
 package com.datastax.yasa.ui.api;
 
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.web.bind.annotation.RequestMethod.GET;
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.yasa.dse.dao.CassandraDao;
+import com.datastax.yasa.dse.dto.ResultListPage;
+import com.datastax.yasa.dse.utils.DseUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Execute CQL queries coming from the user, results are paged and never fully loaded in memory.
+ *
+ * @author DataStax evangelist team.
+ */
+@RestController
+@RequestMapping("/api/v1/cql")
 public class CQLQueriesResource {
 
+    /** Internal logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CQLQueriesResource.class);
+
+    /** Newline delimited JSON, one row per line. */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /** Key of the last line when stream stopped before the end of the results. */
+    public static final String KEY_NEXTPAGE = "nextPage";
+
+    /** Paging. */
+    private static final String DEFAULT_PAGE_SIZE = "100";
+    private static final int    MAX_PAGE_SIZE     = 5000;
+
+    @Autowired
+    protected CassandraDao cassandraDao;
+
+    @Autowired
+    protected ObjectMapper jsonMapper;
+
+    /**
+     * Execute query and retrieve a single page, use 'nextPage' in the response as 'pagingState'
+     * to get the following one.
+     */
+    @RequestMapping(value = "/page", method = POST, produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResultListPage<Map<String, Object>>>> executeQueryPage(
+            @RequestBody String cqlQuery,
+            @RequestParam(value = "pageSize", defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
+            @RequestParam(value = "pagingState", required = false) String pagingState) {
+        assertPageSize(pageSize);
+        LOGGER.info("Executing query {} (pageSize={})", cqlQuery, pageSize);
+        return cassandraDao.executeCQLQueryPageAsync(cqlQuery, pageSize, pagingState, DseUtils::mapRow)
+                           .thenApply(page -> new ResponseEntity<ResultListPage<Map<String, Object>>>(page, HttpStatus.OK));
+    }
+
+    /**
+     * Execute query and stream rows as NDJSON while pages are fetched. Next page is prefetched while
+     * the current one is written. If 'maxPages' is reached before the end of the results the last line
+     * is <code>{"nextPage":"..."}</code> and can be used as 'pagingState' to resume.
+     */
+    @RequestMapping(value = "/stream", method = POST, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamQuery(
+            @RequestBody String cqlQuery,
+            @RequestParam(value = "pageSize", defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
+            @RequestParam(value = "pagingState", required = false) String pagingState,
+            @RequestParam(value = "maxPages", defaultValue = "0") int maxPages) {
+        assertPageSize(pageSize);
+        LOGGER.info("Streaming query {} (pageSize={}, maxPages={})", cqlQuery, pageSize, maxPages);
+        // Executed here to raise errors (syntax, paging state) before the response is committed
+        ResultSet firstPage = cassandraDao.executeCQLQuery(cqlQuery, pageSize, pagingState);
+        StreamingResponseBody body = out -> streamPages(cqlQuery, pageSize, maxPages, firstPage, out);
+        return new ResponseEntity<StreamingResponseBody>(body, HttpStatus.OK);
+    }
+
+    /**
+     * Counters of prepared statements cache used for ad-hoc queries (auto prepare mode).
+     */
+    @RequestMapping(value = "/statements", method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Long>> preparedStatementsStatistics() {
+        return new ResponseEntity<Map<String, Long>>(cassandraDao.getPreparedStatementsStatistics(), HttpStatus.OK);
+    }
+
+    /**
+     * Write pages one after the other, only one page (and the one prefetched) is in memory.
+     */
+    private void streamPages(String cqlQuery, int pageSize, int maxPages, ResultSet page, OutputStream out)
+    throws IOException {
+        int pageCount = 0;
+        while (page != null) {
+            pageCount++;
+            PagingState next = page.getExecutionInfo().getPagingState();
+            boolean limitReached = maxPages > 0 && pageCount >= maxPages;
+            CompletableFuture<ResultSet> nextPage = null;
+            if (next != null && !limitReached) {
+                nextPage = cassandraDao.executeCQLQueryAsync(cqlQuery, pageSize, next.toString());
+            }
+            for (int i = page.getAvailableWithoutFetching(); i > 0; i--) {
+                writeLine(DseUtils.mapRow(page.one()), out);
+            }
+            out.flush();
+            if (next != null && limitReached) {
+                writeLine(Collections.singletonMap(KEY_NEXTPAGE, next.toString()), out);
+            }
+            page = (nextPage == null) ? null : nextPage.join();
+        }
+        out.flush();
+    }
+
+    /**
+     * Serialize a single line.
+     */
+    private void writeLine(Object value, OutputStream out)
+    throws IOException {
+        out.write(jsonMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    /**
+     * Limit page size.
+     */
+    private void assertPageSize(int pageSize) {
+        Assert.isTrue(pageSize > 0 && pageSize <= MAX_PAGE_SIZE,
+                "'pageSize' must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
 }
@@ -5,19 +5,26 @@ import static org.springframework.web.bind.annotation.RequestMethod.GET;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.datastax.yasa.dse.dao.GraphDao;
+import com.datastax.yasa.dse.dto.GraphSliceToken;
 import com.datastax.yasa.ui.model.VizJsGraph;
+import com.datastax.yasa.ui.model.VizJsGraphWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/v1/graphs")
@@ -25,28 +32,68 @@ public class GraphResource {
 
     /** Internal logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(GraphResource.class);
+    
+    /** Limit of vertices per slice. */
+    private static final int MAX_SLICE_SIZE = 5000;
 
     @Autowired
     protected GraphDao graphDao;
+    
+    @Autowired
+    protected ObjectMapper jsonMapper;
 
     @RequestMapping(value = "/", method = GET, produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<Set<String>> loadGraphByName() {
-        Set<String> grapList = graphDao.listGraphNames();
-        LOGGER.info("Display Graph list " + grapList);
-        return new ResponseEntity<Set<String>>(grapList, HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<Set<String>>> loadGraphByName() {
+        return graphDao.listGraphNamesAsync().thenApply(grapList -> {
+            LOGGER.info("Display Graph list " + grapList);
+            return new ResponseEntity<Set<String>>(grapList, HttpStatus.OK);
+        });
     }
     
     @RequestMapping(value = "/{graphName}", method = POST,  produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<VizJsGraph> executeGremlinQuery(@PathVariable(value = "graphName") String graphName, @RequestBody String gremlinQuery) {
-        return new ResponseEntity<VizJsGraph>(
-                graphDao.executeGremlinQuery(graphName, gremlinQuery, true), HttpStatus.ACCEPTED);
+    public CompletableFuture<ResponseEntity<VizJsGraph>> executeGremlinQuery(@PathVariable(value = "graphName") String graphName, @RequestBody String gremlinQuery) {
+        return graphDao.executeGremlinQueryAsync(graphName, gremlinQuery, true)
+                       .thenApply(graph -> new ResponseEntity<VizJsGraph>(graph, HttpStatus.ACCEPTED));
+    }
+    
+    /**
+     * Same JSON as {@link #executeGremlinQuery(String, String)}, written while results are read: first
+     * vertices are sent as soon as available and the graph is never fully held in memory.
+     */
+    @RequestMapping(value = "/{graphName}/stream", method = POST,  produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGremlinQuery(@PathVariable(value = "graphName") String graphName, @RequestBody String gremlinQuery) {
+        return new ResponseEntity<StreamingResponseBody>(out -> {
+            // Not finished on error, client gets an invalid document rather than a partial graph
+            VizJsGraphWriter writer = new VizJsGraphWriter(jsonMapper.getFactory().createGenerator(out));
+            graphDao.executeGremlinQuery(graphName, gremlinQuery, true, writer);
+            writer.finish();
+        }, HttpStatus.OK);
+    }
+    
+    /**
+     * Load a graph slice by slice: first slice is selected by 'strategy' (label or sample), 'label' and
+     * 'size', the following ones with the 'continuation' of the previous result (absent on the last slice).
+     * Without label, the labels configured in 'dse.graph.slice.keys' are read in turn.
+     * A continuation is only valid for the graph it was issued for.
+     */
+    @RequestMapping(value = "/{graphName}/slices", method = GET,  produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<VizJsGraph>> loadGraphSlice(@PathVariable(value = "graphName") String graphName,
+            @RequestParam(value = "strategy", defaultValue = "label") String strategy,
+            @RequestParam(value = "label", required = false) String label,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "continuation", required = false) String continuation) {
+        GraphSliceToken token = (continuation != null) ? GraphSliceToken.fromString(continuation) :
+            graphDao.firstSlice(graphName, GraphSliceToken.Strategy.parse(strategy), label, size);
+        Assert.isTrue(token.getSize() <= MAX_SLICE_SIZE, "'size' must be between 1 and " + MAX_SLICE_SIZE);
+        return graphDao.loadGraphSliceAsync(graphName, token)
+                       .thenApply(graph -> new ResponseEntity<VizJsGraph>(graph, HttpStatus.OK));
     }
     
     @RequestMapping(value = "/{graphName}/{gremlinQuery}", method = GET,  produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<VizJsGraph> executeGremlinQueryGeg(@PathVariable(value = "graphName") String graphName, 
+    public CompletableFuture<ResponseEntity<VizJsGraph>> executeGremlinQueryGeg(@PathVariable(value = "graphName") String graphName, 
             @PathVariable(value = "gremlinQuery") String gremlinQuery) {
-        return new ResponseEntity<VizJsGraph>(
-                graphDao.executeGremlinQuery(graphName, gremlinQuery, true), HttpStatus.ACCEPTED);
+        return graphDao.executeGremlinQueryAsync(graphName, gremlinQuery, true)
+                       .thenApply(graph -> new ResponseEntity<VizJsGraph>(graph, HttpStatus.ACCEPTED));
     }
     
     
@@ -0,0 +1,131 @@
+package com.datastax.yasa.ui.api;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.web.bind.annotation.RequestMethod.GET;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.datastax.yasa.dse.dao.DseMetricsDao;
+import com.datastax.yasa.dse.dto.HostMetrics;
+import com.datastax.yasa.dse.dto.RequestMetrics;
+import com.datastax.yasa.ui.conf.HttpMetrics;
+
+/**
+ * Metrics of the driver: latencies by type of request, pools and requests in flight per host, errors and retries.
+ * Latencies of HTTP requests and of DSE requests are also exported in Prometheus text format.
+ *
+ * @author DataStax evangelist team.
+ */
+@RestController
+@RequestMapping("/api/v1/metrics")
+public class MetricsResource {
+
+    /** Prometheus text format. */
+    public static final String PROMETHEUS_TEXT_VALUE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    /** Names of exported metrics. */
+    private static final String METRIC_DSE_LATENCY  = "yasa_dse_request_latency_seconds";
+    private static final String METRIC_DSE_MAX      = "yasa_dse_request_latency_max_seconds";
+    private static final String METRIC_DSE_REQUESTS = "yasa_dse_requests_total";
+    private static final String METRIC_DSE_ERRORS   = "yasa_dse_request_errors_total";
+
+    @Autowired
+    protected DseMetricsDao metricsDao;
+    
+    @Autowired
+    protected HttpMetrics httpMetrics;
+    
+    /** Prometheus export only served to the local host. */
+    @Value("${dse.metrics.prometheus.localOnly: true}")
+    private boolean prometheusLocalOnly = true;
+
+    /**
+     * All metrics.
+     */
+    @RequestMapping(method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("requests", metricsDao.getRequestMetrics());
+        metrics.put("hosts", metricsDao.getHostMetrics());
+        metrics.put("errors", metricsDao.getDriverErrors());
+        return new ResponseEntity<Map<String, Object>>(metrics, HttpStatus.OK);
+    }
+
+    /**
+     * Latencies by type of request (CQL, GRAPH, SCHEMA).
+     */
+    @RequestMapping(value = "/requests", method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RequestMetrics>> requests() {
+        return new ResponseEntity<List<RequestMetrics>>(metricsDao.getRequestMetrics(), HttpStatus.OK);
+    }
+
+    /**
+     * Pools and requests in flight per host.
+     */
+    @RequestMapping(value = "/hosts", method = GET, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<HostMetrics>> hosts() {
+        return new ResponseEntity<List<HostMetrics>>(metricsDao.getHostMetrics(), HttpStatus.OK);
+    }
+
+    /**
+     * Latencies of HTTP requests by handler and phase, latencies of DSE requests by type, in Prometheus text format.
+     */
+    @RequestMapping(value = "/prometheus", method = GET, produces = PROMETHEUS_TEXT_VALUE)
+    public ResponseEntity<String> prometheus(HttpServletRequest request) throws UnknownHostException {
+        if (prometheusLocalOnly && !InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+            return new ResponseEntity<String>(HttpStatus.FORBIDDEN);
+        }
+        StringBuilder out = new StringBuilder();
+        httpMetrics.writePrometheus(out);
+        List<RequestMetrics> requests = metricsDao.getRequestMetrics();
+        out.append("# HELP ").append(METRIC_DSE_LATENCY).append(" Latency of DSE requests by type, recent requests weigh more in quantiles.\n");
+        out.append("# TYPE ").append(METRIC_DSE_LATENCY).append(" summary\n");
+        for (RequestMetrics rm : requests) {
+            String type = rm.getType().toLowerCase(Locale.ENGLISH);
+            appendQuantile(out, type, "0.5", rm.getP50Millis());
+            appendQuantile(out, type, "0.95", rm.getP95Millis());
+            appendQuantile(out, type, "0.99", rm.getP99Millis());
+            out.append(METRIC_DSE_LATENCY).append("_sum{type=\"").append(type).append("\"} ").append(rm.getSumMillis() / 1000d).append('\n');
+            out.append(METRIC_DSE_LATENCY).append("_count{type=\"").append(type).append("\"} ").append(rm.getCount()).append('\n');
+        }
+        out.append("# HELP ").append(METRIC_DSE_MAX).append(" Maximum latency of recent DSE requests by type.\n");
+        out.append("# TYPE ").append(METRIC_DSE_MAX).append(" gauge\n");
+        for (RequestMetrics rm : requests) {
+            out.append(METRIC_DSE_MAX).append("{type=\"").append(rm.getType().toLowerCase(Locale.ENGLISH)).append("\"} ")
+               .append(rm.getMaxMillis() / 1000d).append('\n');
+        }
+        out.append("# HELP ").append(METRIC_DSE_REQUESTS).append(" DSE requests by type (attempts).\n");
+        out.append("# TYPE ").append(METRIC_DSE_REQUESTS).append(" counter\n");
+        for (RequestMetrics rm : requests) {
+            out.append(METRIC_DSE_REQUESTS).append("{type=\"").append(rm.getType().toLowerCase(Locale.ENGLISH)).append("\"} ")
+               .append(rm.getCount()).append('\n');
+        }
+        out.append("# HELP ").append(METRIC_DSE_ERRORS).append(" DSE requests in error by type.\n");
+        out.append("# TYPE ").append(METRIC_DSE_ERRORS).append(" counter\n");
+        for (RequestMetrics rm : requests) {
+            out.append(METRIC_DSE_ERRORS).append("{type=\"").append(rm.getType().toLowerCase(Locale.ENGLISH)).append("\"} ")
+               .append(rm.getErrors()).append('\n');
+        }
+        return new ResponseEntity<String>(out.toString(), HttpStatus.OK);
+    }
+    
+    private static void appendQuantile(StringBuilder out, String type, String quantile, double millis) {
+        out.append(METRIC_DSE_LATENCY).append("{type=\"").append(type).append("\",quantile=\"").append(quantile).append("\"} ")
+           .append(millis / 1000d).append('\n');
+    }
+
+}
@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-@ControllerAdvice(basePackages = {"com.datastax.graph"})
+@ControllerAdvice(basePackages = {"com.datastax.yasa"})
 @Order(0)
 public class RestExceptionHandler {
     
@@ -0,0 +1,78 @@
+package com.datastax.yasa.ui.conf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Customization of graph screens, block 'ui-graph' in application.yml.
+ *
+ * @author DataStax evangelist team.
+ */
+@Component
+@ConfigurationProperties(prefix = "ui-graph")
+public class GraphUiProperties {
+
+    /** Vertices display. */
+    private Nodes nodes = new Nodes();
+
+    /**
+     * Getter accessor for attribute 'nodes'.
+     *
+     * @return
+     *       current value of 'nodes'
+     */
+    public Nodes getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Setter accessor for attribute 'nodes'.
+     * @param nodes
+     * 		new value for 'nodes '
+     */
+    public void setNodes(Nodes nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Block 'ui-graph.nodes'.
+     */
+    public static class Nodes {
+
+        /** Display label template per vertex label, see {@link com.datastax.yasa.ui.model.VertexLabelTemplate}. */
+        private Map < String, String > labels = new LinkedHashMap<>();
+
+        /**
+         * Same values as application.yml.
+         */
+        public Nodes() {
+            labels.put("cluster",  "{golden_display_name}");
+            labels.put("customer", "{surname} {firstname}");
+            labels.put("contract", "{agreement_id}[ ({sys_apl})]");
+            labels.put("vehicule", "{vin_no}");
+        }
+
+        /**
+         * Getter accessor for attribute 'labels'.
+         *
+         * @return
+         *       current value of 'labels'
+         */
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        /**
+         * Setter accessor for attribute 'labels'.
+         * @param labels
+         * 		new value for 'labels '
+         */
+        public void setLabels(Map<String, String> labels) {
+            this.labels = labels;
+        }
+    }
+
+}
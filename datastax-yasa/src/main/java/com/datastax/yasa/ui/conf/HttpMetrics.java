@@ -0,0 +1,108 @@
+package com.datastax.yasa.ui.conf;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.datastax.yasa.utils.LatencyHistogram;
+
+/**
+ * Latencies and errors of HTTP requests by handler ('Controller.method'). The time of a request ({@link #PHASE_TOTAL})
+ * is split for pages between the controller calling DAOs ({@link #PHASE_DAO}) and Thymeleaf ({@link #PHASE_RENDER}).
+ * Exported as Prometheus text.
+ *
+ * @author DataStax evangelist team.
+ */
+@Component
+public class HttpMetrics {
+
+    /** Phases of a request. */
+    public static final String PHASE_TOTAL  = "total";
+    public static final String PHASE_DAO    = "dao";
+    public static final String PHASE_RENDER = "render";
+
+    /** Names of exported metrics. */
+    private static final String METRIC_DURATION = "yasa_http_request_duration_seconds";
+    private static final String METRIC_ERRORS   = "yasa_http_errors_total";
+
+    /** Histograms by handler then phase. */
+    private final ConcurrentMap < String, ConcurrentMap < String, LatencyHistogram > > histograms = new ConcurrentHashMap<>();
+
+    /** Errors by handler. */
+    private final ConcurrentMap < String, LongAdder > errors = new ConcurrentHashMap<>();
+
+    /**
+     * Record the duration of a phase of a request.
+     *
+     * @param handler
+     *      handler of the request
+     * @param phase
+     *      {@link #PHASE_TOTAL}, {@link #PHASE_DAO} or {@link #PHASE_RENDER}
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void record(String handler, String phase, long nanos) {
+        histograms.computeIfAbsent(handler, h -> new ConcurrentHashMap<>())
+                  .computeIfAbsent(phase, p -> new LatencyHistogram())
+                  .record(nanos);
+    }
+
+    /**
+     * Count a request in error (exception or status 5xx).
+     *
+     * @param handler
+     *      handler of the request
+     */
+    public void error(String handler) {
+        errors.computeIfAbsent(handler, h -> new LongAdder()).increment();
+    }
+
+    /**
+     * Write metrics in Prometheus text format (version 0.0.4).
+     *
+     * @param out
+     *      target
+     */
+    public void writePrometheus(StringBuilder out) {
+        double[] bounds = LatencyHistogram.getBoundsSeconds();
+        out.append("# HELP ").append(METRIC_DURATION).append(" Time to serve requests by handler and phase (total, dao, render).\n");
+        out.append("# TYPE ").append(METRIC_DURATION).append(" histogram\n");
+        for (Map.Entry<String, ConcurrentMap<String, LatencyHistogram>> handler : new TreeMap<>(histograms).entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> phase : new TreeMap<>(handler.getValue()).entrySet()) {
+                String labels = "handler=\"" + escape(handler.getKey()) + "\",phase=\"" + phase.getKey() + "\"";
+                long[] counts = phase.getValue().getCumulativeCounts();
+                for (int idx = 0; idx < bounds.length; idx++) {
+                    out.append(METRIC_DURATION).append("_bucket{").append(labels).append(",le=\"").append(bounds[idx]).append("\"} ")
+                       .append(counts[idx]).append('\n');
+                }
+                long count = counts[counts.length - 1];
+                out.append(METRIC_DURATION).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(count).append('\n');
+                out.append(METRIC_DURATION).append("_sum{").append(labels).append("} ").append(phase.getValue().getSumNanos() / 1e9).append('\n');
+                out.append(METRIC_DURATION).append("_count{").append(labels).append("} ").append(count).append('\n');
+            }
+        }
+        out.append("# HELP ").append(METRIC_ERRORS).append(" Requests in error (exception or status 5xx) by handler.\n");
+        out.append("# TYPE ").append(METRIC_ERRORS).append(" counter\n");
+        for (Map.Entry<String, LongAdder> handler : new TreeMap<>(errors).entrySet()) {
+            out.append(METRIC_ERRORS).append("{handler=\"").append(escape(handler.getKey())).append("\"} ")
+               .append(handler.getValue().sum()).append('\n');
+        }
+    }
+
+    /**
+     * Escape a label value.
+     *
+     * @param value
+     *      raw value
+     * @return
+     *      value with backslashes, quotes and new lines escaped
+     */
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+}
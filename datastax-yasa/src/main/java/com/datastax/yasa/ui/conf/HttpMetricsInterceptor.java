@@ -0,0 +1,71 @@
+package com.datastax.yasa.ui.conf;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Time requests from the first dispatch to completion, asynchronous requests (CompletableFuture, streaming) included:
+ * the start is kept in the request when the result is dispatched again.
+ *
+ * @author DataStax evangelist team.
+ */
+public class HttpMetricsInterceptor implements HandlerInterceptor {
+
+    /** Request attribute holding the start. */
+    private static final String ATTRIBUTE_START = HttpMetricsInterceptor.class.getName() + ".start";
+
+    /** Target metrics. */
+    private final HttpMetrics httpMetrics;
+
+    /**
+     * Constructor with metrics.
+     *
+     * @param httpMetrics
+     *      target metrics
+     */
+    public HttpMetricsInterceptor(HttpMetrics httpMetrics) {
+        this.httpMetrics = httpMetrics;
+    }
+
+    /**
+     * Name of the handler of a request: 'Controller.method' or the class of handler (static resources).
+     *
+     * @param handler
+     *      handler of the request
+     * @return
+     *      name used in metrics
+     */
+    public static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod method = (HandlerMethod) handler;
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(ATTRIBUTE_START) == null) {
+            request.setAttribute(ATTRIBUTE_START, System.nanoTime());
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(ATTRIBUTE_START);
+        if (start != null) {
+            String name = handlerName(handler);
+            httpMetrics.record(name, HttpMetrics.PHASE_TOTAL, System.nanoTime() - (Long) start);
+            if (ex != null || response.getStatus() >= 500) {
+                httpMetrics.error(name);
+            }
+        }
+    }
+
+}
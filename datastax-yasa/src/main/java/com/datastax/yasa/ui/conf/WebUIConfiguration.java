@@ -5,17 +5,23 @@ import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
+import com.datastax.yasa.ui.model.VertexLabelRegistry;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Configuration
-public class WebUIConfiguration {
+public class WebUIConfiguration implements WebMvcConfigurer {
 
     @Autowired
     private SpringTemplateEngine templateEngine;
+    
+    @Autowired
+    private HttpMetrics httpMetrics;
 
     @PostConstruct
     public void extension() {
@@ -27,11 +33,22 @@ public class WebUIConfiguration {
         templateEngine.addTemplateResolver(templateResolver);
     }
     
+    /** Time every request, see {@link HttpMetrics}. */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HttpMetricsInterceptor(httpMetrics));
+    }
+    
     @Bean
     public ObjectMapper customizeJacksonConfiguration() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.setSerializationInclusion(Include.NON_NULL);
         return mapper;
     }
+    
+    @Bean
+    public VertexLabelRegistry vertexLabelRegistry(GraphUiProperties graphUiProperties) {
+        return new VertexLabelRegistry(graphUiProperties.getNodes().getLabels());
+    }
 
 }
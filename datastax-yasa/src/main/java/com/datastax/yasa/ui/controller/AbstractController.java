@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.thymeleaf.context.WebContext;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import com.datastax.yasa.ui.conf.HttpMetrics;
+
 /**
  * SuperClass for controllers
  *
@@ -34,6 +36,10 @@ public abstract class AbstractController {
     
     @Autowired
     protected SpringTemplateEngine templateEngine;
+    
+    /** Time spent in controllers (DAO calls) and in rendering. */
+    @Autowired
+    protected HttpMetrics httpMetrics;
    
     /**
      * Define response Locale (Cookie <-> HttpSession <-> Request)
@@ -89,15 +95,16 @@ public abstract class AbstractController {
         i18n(req, res);
         
         WebContext ctx = new WebContext(req, res,  req.getSession().getServletContext(), res.getLocale());
+        String handler = getClass().getSimpleName() + ".get";
+        long top = System.nanoTime();
         try {
             get(req, res, ctx);
         } catch(Throwable t) {
+            httpMetrics.error(handler);
             ctx.setVariable("msgType", "error");
             ctx.setVariable("msgInfo", t.getMessage());
         }
-
-        // Render to view
-        templateEngine.process(getSuccessView(), ctx, res.getWriter());
+        render(handler, top, ctx, res);
     }
     
     /**
@@ -114,17 +121,32 @@ public abstract class AbstractController {
     public void post(HttpServletRequest req, HttpServletResponse res)
     throws IOException {
         WebContext ctx = new WebContext(req, res,  req.getSession().getServletContext(), req.getLocale());
+        String handler = getClass().getSimpleName() + ".post";
+        long top = System.nanoTime();
      
         // Adding attribute to response
         try {
             processPost(req, res, ctx);
         } catch(Throwable t) {
+            httpMetrics.error(handler);
             ctx.setVariable("msgType", "error");
             ctx.setVariable("msgInfo", t.getMessage());
         }
-
-        // Render to view
-        templateEngine.process(getSuccessView(), ctx, res.getWriter());
+        render(handler, top, ctx, res);
+    }
+    
+    /**
+     * Render to view, time of the controller (since top) and of the rendering are recorded separately.
+     */
+    private void render(String handler, long top, WebContext ctx, HttpServletResponse res)
+    throws IOException {
+        long rendering = System.nanoTime();
+        httpMetrics.record(handler, HttpMetrics.PHASE_DAO, rendering - top);
+        try {
+            templateEngine.process(getSuccessView(), ctx, res.getWriter());
+        } finally {
+            httpMetrics.record(handler, HttpMetrics.PHASE_RENDER, System.nanoTime() - rendering);
+        }
     }
 
     
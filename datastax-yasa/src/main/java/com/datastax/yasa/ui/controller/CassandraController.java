@@ -2,14 +2,18 @@ package com.datastax.yasa.ui.controller;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.NumberUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.thymeleaf.context.WebContext;
@@ -18,9 +22,11 @@ import com.datastax.driver.core.ColumnMetadata;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.yasa.dse.dao.CassandraDao;
+import com.datastax.yasa.dse.dto.QueryTraceInfo;
+import com.datastax.yasa.dse.dto.ResultListPage;
 import com.datastax.yasa.dse.dto.TableColumn;
 import com.datastax.yasa.dse.dto.TableResult;
-import com.datastax.yasa.dse.dto.TableValue;
+import com.datastax.yasa.dse.dto.TableRows;
 import com.datastax.yasa.ui.controller.AbstractController;
 import com.datastax.yasa.ui.webbean.CassandraWebBean;
 
@@ -35,10 +41,17 @@ public class CassandraController extends AbstractController {
     private static final String PARAM_KEYSPACE = "keyspace";
     private static final String PARAM_TABLE    = "table";
     private static final String PARAM_QUERY    = "query";
+    private static final String PARAM_PAGE     = "page";
+    private static final String PARAM_PAGINGSTATE = "pagingState";
+    private static final String PARAM_TRACE    = "trace";
     
     @Autowired
     private CassandraDao cassandraDao;
     
+    /** Number of rows fetched (and displayed) per page. */
+    @Value("${dse.cassandra.pageSize: 50}")
+    private int pageSize = 50;
+    
     /** {@inheritDoc} */
     public String getSuccessView() {
         return CASSANDRA_VIEW;
@@ -50,7 +63,7 @@ public class CassandraController extends AbstractController {
         CassandraWebBean cwb = (CassandraWebBean) ctx.getVariable("cbean");
         if (cwb == null) {
             cwb = new CassandraWebBean();
-            Map <String, TreeSet<String>> keyspaces = cassandraDao.listCassandraKeyspacesNames();
+            Map <String, SortedSet<String>> keyspaces = cassandraDao.listCassandraKeyspacesNames();
             cwb.getAdminKeyspaces().addAll(keyspaces.get(CassandraDao.KEYSPACES_ADMIN));
             cwb.getUserKeyspaces().addAll(keyspaces.get(CassandraDao.KEYSPACES_USER));
         }
@@ -86,9 +99,16 @@ public class CassandraController extends AbstractController {
         String currentKeySpace  = req.getParameter(PARAM_KEYSPACE);
         String currentTableName = req.getParameter(PARAM_TABLE);
         String cqlQuery        = req.getParameter(PARAM_QUERY).replaceAll("\\r\\n", " ");
-        LOGGER.info("{POST} - Executing Query {}", cqlQuery);
+        String pagingState     = req.getParameter(PARAM_PAGINGSTATE);
+        int pageNumber         = parsePageNumber(req.getParameter(PARAM_PAGE));
+        boolean trace          = Boolean.parseBoolean(req.getParameter(PARAM_TRACE));
+        LOGGER.info("{POST} - Executing Query {} (page {})", cqlQuery, pageNumber);
         if (null != cqlQuery && cqlQuery.length() > 0) {
-            ResultSet rs = cassandraDao.executeCQLQuery(cqlQuery);
+            // Only the requested page is fetched
+            long top = System.nanoTime();
+            ResultSet rs = cassandraDao.executeCQLQuery(cqlQuery, pageSize, pagingState, trace);
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top);
+            ResultListPage<Row> page = new ResultListPage<>(rs, Function.identity());
             
             // Look for definition as not in ColumnDefinition
             LinkedHashMap<String, TableColumn> allColumns = 
@@ -98,6 +118,12 @@ public class CassandraController extends AbstractController {
             tableResult.setExecutedQuery(cqlQuery);
             tableResult.setKeySpace(currentKeySpace);
             tableResult.setTableName(currentTableName);
+            tableResult.setPageNumber(pageNumber);
+            tableResult.setPageSize(pageSize);
+            tableResult.setNextPage(page.getNextPage());
+            tableResult.setExecutionTime(executionTime);
+            // Trace is read from 'system_traces' after the query, not part of the execution time
+            tableResult.setTrace(new QueryTraceInfo(rs.getExecutionInfo()));
             
             // Fill Columns Titles
             for(String columnName : allColumns.keySet()) {
@@ -106,22 +132,12 @@ public class CassandraController extends AbstractController {
                 }
             }
             
-            // Fill Rows
-            for (Row currentRow : rs) {
-                // Get column in proper order
-                LinkedHashMap<String, TableValue> uiRow = new LinkedHashMap<>();
-                for(String columnName : tableResult.getColumns().keySet()) {
-                    TableValue tv = new TableValue();
-                    tv.setColumnName(columnName);
-                    tv.setRawValue(currentRow.getObject(columnName));
-                    uiRow.put(columnName, tv);
-                }
-                tableResult.getRows().add(uiRow);
-            }
+            // Fill Rows, values are copied by column and formatted when rendered
+            tableResult.setRows(new TableRows(tableResult.getColumns().keySet(), page.getResults()));
             cwb.setResult(tableResult);
             cwb.setCqlQuery(String.join(",", tableResult.getColumns().keySet()));
         }
-        Map <String, TreeSet<String>> keyspaces = cassandraDao.listCassandraKeyspacesNames();
+        Map <String, SortedSet<String>> keyspaces = cassandraDao.listCassandraKeyspacesNames();
         cwb.getAdminKeyspaces().addAll(keyspaces.get(CassandraDao.KEYSPACES_ADMIN));
         cwb.getUserKeyspaces().addAll(keyspaces.get(CassandraDao.KEYSPACES_USER));
         cwb.setCurrentKeySpace(currentKeySpace);
@@ -130,5 +146,20 @@ public class CassandraController extends AbstractController {
         cwb.getTableNames().addAll(cassandraDao.listTablesNamesByKeySpace(currentKeySpace).collect(Collectors.toList()));
         ctx.setVariable("cbean", cwb);
     }
+    
+    /**
+     * Page number is only displayed, a missing or tampered value restarts at page 1.
+     */
+    private int parsePageNumber(String page) {
+        if (!StringUtils.hasText(page)) {
+            return 1;
+        }
+        try {
+            return Math.max(1, NumberUtils.parseNumber(page.trim(), Integer.class));
+        } catch(IllegalArgumentException e) {
+            LOGGER.debug("Invalid page number '{}', using page 1", page);
+            return 1;
+        }
+    }
    
 }
@@ -9,8 +9,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.thymeleaf.context.WebContext;
 
 import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.dse.DseCluster;
 import com.datastax.driver.dse.DseSession;
+import com.datastax.yasa.dse.dao.DseMetricsDao;
 import com.datastax.yasa.ui.webbean.DseNodeWebBean;
 import com.datastax.yasa.ui.webbean.HomeWebBean;
 
@@ -23,6 +25,9 @@ public class HomeController extends AbstractController {
     
     @Autowired
     private DseSession dseSession;
+    
+    @Autowired
+    private DseMetricsDao metricsDao;
 
     /** {@inheritDoc} */
     @Override
@@ -55,6 +60,7 @@ public class HomeController extends AbstractController {
         HomeWebBean home = new HomeWebBean();
         home.setClusterName(cluster.getMetadata().getClusterName());
         home.setDseDriverVersion(DseCluster.getDseDriverVersion());
+        Session.State state = dseSession.getState();
         for (Host host : cluster.getMetadata().getAllHosts()) {
             DseNodeWebBean dseNode = new DseNodeWebBean();
             dseNode.setHostname(host.getAddress().getHostName());
@@ -64,6 +70,9 @@ public class HomeController extends AbstractController {
                     host.getDseVersion().getPatch());
             dseNode.setState(host.getState());
             dseNode.getWorkloads().addAll(host.getDseWorkloads());
+            dseNode.setOpenConnections(state.getOpenConnections(host));
+            dseNode.setTrashedConnections(state.getTrashedConnections(host));
+            dseNode.setInFlightQueries(state.getInFlightQueries(host));
             home.getDseNodeList().add(dseNode);
         }
         
@@ -82,6 +91,10 @@ public class HomeController extends AbstractController {
         home.setQueryConsistencyLevel(cluster.getConfiguration().getQueryOptions().getConsistencyLevel().toString());
         home.setQueryFetchSize(cluster.getConfiguration().getQueryOptions().getFetchSize());
         home.setQueryDefaultIdempotence(cluster.getConfiguration().getQueryOptions().getDefaultIdempotence());
+        
+        // Metrics
+        home.setRequestMetrics(metricsDao.getRequestMetrics());
+        home.setDriverErrors(metricsDao.getDriverErrors());
         return home;
     }
   
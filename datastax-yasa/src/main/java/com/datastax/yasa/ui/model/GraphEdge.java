@@ -1,7 +1,6 @@
 package com.datastax.yasa.ui.model;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -13,6 +12,9 @@ public class GraphEdge implements Serializable {
     /** Serial */
     private static final long serialVersionUID = 1831229442542944978L;
     
+    /** Unique identifier for edge (optional). */
+    private String id;
+    
     /** Source Vertex. */
     private String from;
     
@@ -25,7 +27,7 @@ public class GraphEdge implements Serializable {
     /** Edges are directed in DSE Graph. */
     private String arrows = "to";
     
-    /** Color of edges. */
+    /** Color of edges, shared with edges of the same style. */
     private Map<String, String > color = null;
     
     public GraphEdge() {
@@ -34,8 +36,31 @@ public class GraphEdge implements Serializable {
     public GraphEdge(String from, String to) {
         this.from = from;
         this.to = to;
-        color = new HashMap<>();
-        color.put("color", "#687684");
+        this.color = GraphEdgeStyle.DEFAULT.getColor();
+    }
+
+    /**
+     * Getter accessor for attribute 'id'.
+     *
+     * @return
+     *       current value of 'id'
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Setter accessor for attribute 'id'.
+     * @param id
+     * 		new value for 'id '
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public GraphEdge id(String id) {
+        setId(id);
+        return this;
     }
 
     /**
@@ -146,7 +171,12 @@ public class GraphEdge implements Serializable {
      */
     public void setColor(Map<String, String> color) {
         this.color = color;
-    }    
+    }
+    
+    public GraphEdge style(GraphEdgeStyle style) {
+        setColor(style.getColor());
+        return this;
+    }
     
     
 }
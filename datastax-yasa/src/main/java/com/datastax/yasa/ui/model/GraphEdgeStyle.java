@@ -1,7 +1,33 @@
 package com.datastax.yasa.ui.model;
 
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Edge styles, shared by all edges using them.
+ *
+ * @author DataStax evangelist team.
+ */
 public enum GraphEdgeStyle {
     
+    /** Grey edge. */
+    DEFAULT("#687684");
+    
+    /** Color as expected by VizJS, immutable. */
+    private final Map<String, String> color;
     
+    private GraphEdgeStyle(String color) {
+        this.color = Collections.singletonMap("color", color);
+    }
+
+    /**
+     * Getter accessor for attribute 'color'.
+     *
+     * @return
+     *       current value of 'color'
+     */
+    public Map<String, String> getColor() {
+        return color;
+    }
 
 }
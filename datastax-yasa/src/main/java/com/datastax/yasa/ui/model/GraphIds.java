@@ -0,0 +1,49 @@
+package com.datastax.yasa.ui.model;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * DSE identifiers of vertices and edges are maps serialized as long strings, they are replaced by a
+ * short surrogate (64 bits hash, base 36, up to 13 characters). Surrogate only depends on the identifier:
+ * same element has the same id across requests.
+ *
+ * @author DataStax evangelist team.
+ */
+public final class GraphIds {
+
+    /** Hash function. */
+    private static final HashFunction MURMUR3 = Hashing.murmur3_128();
+
+    /**
+     * Hide default constructor.
+     */
+    private GraphIds() {}
+
+    /**
+     * 64 bits hash of an identifier.
+     *
+     * @param id
+     *      identifier
+     * @return
+     *      hash
+     */
+    public static long hash(String id) {
+        return MURMUR3.hashString(id, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * Short surrogate of an identifier.
+     *
+     * @param id
+     *      identifier as returned by DSE
+     * @return
+     *      surrogate used in the UI
+     */
+    public static String shortId(String id) {
+        return Long.toUnsignedString(hash(id), Character.MAX_RADIX);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.datastax.yasa.ui.model;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,25 +15,37 @@ public class GraphOption implements Serializable {
     /** Serial. */
     private static final long serialVersionUID = 1305402041671605065L;
     
-    private List < String > data = new ArrayList<>();
+    /** Shared default options, immutable: build new options and set them on a graph to customize. */
+    public static final GraphOption DEFAULT = new GraphOption();
+    
+    /** Options, read only. */
+    private final List < String > data;
+    
+    /**
+     * No option.
+     */
+    public GraphOption() {
+        this(Collections.emptyList());
+    }
+    
+    /**
+     * Options are copied, instances are immutable and can be shared by graphs.
+     *
+     * @param data
+     *      options
+     */
+    public GraphOption(List < String > data) {
+        this.data = Collections.unmodifiableList(new ArrayList<>(data));
+    }
 
     /**
      * Getter accessor for attribute 'data'.
      *
      * @return
-     *       current value of 'data'
+     *       current value of 'data' (read only)
      */
     public List<String> getData() {
         return data;
     }
 
-    /**
-     * Setter accessor for attribute 'data'.
-     * @param data
-     * 		new value for 'data '
-     */
-    public void setData(List<String> data) {
-        this.data = data;
-    }
-
 }
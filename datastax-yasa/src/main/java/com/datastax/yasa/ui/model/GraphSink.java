@@ -0,0 +1,31 @@
+package com.datastax.yasa.ui.model;
+
+/**
+ * Receive vertices and edges as they are mapped from graph results, either kept in memory
+ * ({@link VizJsGraph}) or written as they come ({@link VizJsGraphWriter}).
+ *
+ * @author DataStax evangelist team.
+ */
+public interface GraphSink {
+
+    /**
+     * Adding node.
+     *
+     * @param node
+     *      graph node.
+     * @return
+     *      current sink
+     */
+    GraphSink addVertex(GraphVertex node);
+
+    /**
+     * Adding edge.
+     *
+     * @param edge
+     *      graph edge.
+     * @return
+     *      current sink
+     */
+    GraphSink addEdge(GraphEdge edge);
+
+}
@@ -27,6 +27,9 @@ public class GraphVertex implements Serializable {
     /** Color of edges. */
     private Map<String, String > color = null;
     
+    /** Set when some neighbours of the vertex were not loaded (fan-out cap, supernode or vertex budget). */
+    private Boolean truncated;
+    
     /**
      * Getter accessor for attribute 'id'.
      *
@@ -138,4 +141,23 @@ public class GraphVertex implements Serializable {
         this.group = group;
     }
 
+    /**
+     * Getter accessor for attribute 'truncated'.
+     *
+     * @return
+     *       current value of 'truncated'
+     */
+    public Boolean getTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Setter accessor for attribute 'truncated'.
+     * @param truncated
+     * 		new value for 'truncated '
+     */
+    public void setTruncated(Boolean truncated) {
+        this.truncated = truncated;
+    }
+
 }
@@ -0,0 +1,70 @@
+package com.datastax.yasa.ui.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Display label renderers per vertex label (case insensitive), vertices without renderer are displayed
+ * with their label.
+ *
+ * @author DataStax evangelist team.
+ */
+public class VertexLabelRegistry {
+
+    /** Renderers per lower case vertex label, read only once built. */
+    private final Map < String, VertexLabelTemplate > templates;
+
+    /** Properties to retrieve per lower case vertex label, read only once built. */
+    private final Map < String, List < String > > displayProperties;
+
+    /**
+     * Build from configuration, renderers are not changed afterwards and are read without locking.
+     *
+     * @param templatesByLabel
+     *      template expression per vertex label
+     */
+    public VertexLabelRegistry(Map < String, String > templatesByLabel) {
+        Map < String, VertexLabelTemplate > templatesByKey = new HashMap<>();
+        Map < String, List < String > > propertiesByKey   = new HashMap<>();
+        templatesByLabel.forEach((vertexLabel, template) -> {
+            VertexLabelTemplate labelTemplate = new VertexLabelTemplate(template);
+            String key = vertexLabel.toLowerCase(Locale.ENGLISH);
+            templatesByKey.put(key, labelTemplate);
+            propertiesByKey.put(key, Collections.unmodifiableList(new ArrayList<>(labelTemplate.getPropertyNames())));
+        });
+        this.templates         = Collections.unmodifiableMap(templatesByKey);
+        this.displayProperties = Collections.unmodifiableMap(propertiesByKey);
+    }
+
+    /**
+     * Label to display for a vertex.
+     *
+     * @param vertexLabel
+     *      vertex label
+     * @param properties
+     *      value of a property as a string, null if missing
+     * @return
+     *      label to display
+     */
+    public String render(String vertexLabel, Function<String, String> properties) {
+        VertexLabelTemplate template = templates.get(vertexLabel.toLowerCase(Locale.ENGLISH));
+        String label = (template == null) ? null : template.render(properties);
+        return (label == null) ? vertexLabel : label;
+    }
+
+    /**
+     * Properties used to render labels, the only ones to retrieve.
+     *
+     * @return
+     *      property names per lower case vertex label (read only)
+     */
+    public Map < String, List < String > > getDisplayProperties() {
+        return displayProperties;
+    }
+
+}
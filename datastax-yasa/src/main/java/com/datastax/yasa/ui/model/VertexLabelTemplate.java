@@ -0,0 +1,159 @@
+package com.datastax.yasa.ui.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Display label of a vertex built from its properties, parsed once.
+ *
+ * <ul>
+ *  <li><code>{name}</code> is replaced by the value of property 'name', nothing if missing.</li>
+ *  <li><code>[...]</code> is displayed only if all properties inside are present.</li>
+ * </ul>
+ * Sample: <code>{agreement_id}[ ({sys_apl})]</code>.
+ *
+ * @author DataStax evangelist team.
+ */
+public final class VertexLabelTemplate {
+
+    /** Source. */
+    private final String template;
+
+    /** Parsed template. */
+    private final List < Segment > segments;
+
+    /** Properties used by the template. */
+    private final Set < String > propertyNames = new LinkedHashSet<>();
+
+    /**
+     * Parse template.
+     *
+     * @param template
+     *      template expression
+     */
+    public VertexLabelTemplate(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("Label template is required");
+        }
+        this.template = template;
+        int[] position = { 0 };
+        this.segments = Collections.unmodifiableList(parse(position, false));
+    }
+
+    /**
+     * Parse until the end of template or of the current optional section.
+     */
+    private List < Segment > parse(int[] position, boolean optionalSection) {
+        List < Segment > parsed = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position[0] < template.length()) {
+            char c = template.charAt(position[0]++);
+            if (c == '{') {
+                int end = template.indexOf('}', position[0]);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Missing '}' in label template " + template);
+                }
+                String name = template.substring(position[0], end).trim();
+                position[0] = end + 1;
+                addLiteral(parsed, literal);
+                propertyNames.add(name);
+                parsed.add((properties, sb) -> {
+                    String value = properties.apply(name);
+                    if (value == null) return false;
+                    sb.append(value);
+                    return true;
+                });
+            } else if (c == '[') {
+                addLiteral(parsed, literal);
+                List < Segment > section = parse(position, true);
+                parsed.add((properties, sb) -> {
+                    StringBuilder sectionValue = new StringBuilder();
+                    if (render(section, properties, sectionValue)) {
+                        sb.append(sectionValue);
+                    }
+                    return true;
+                });
+            } else if (c == ']' && optionalSection) {
+                addLiteral(parsed, literal);
+                return parsed;
+            } else {
+                literal.append(c);
+            }
+        }
+        if (optionalSection) {
+            throw new IllegalArgumentException("Missing ']' in label template " + template);
+        }
+        addLiteral(parsed, literal);
+        return parsed;
+    }
+
+    private void addLiteral(List < Segment > parsed, StringBuilder literal) {
+        if (literal.length() > 0) {
+            String text = literal.toString();
+            parsed.add((properties, sb) -> {
+                sb.append(text);
+                return true;
+            });
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * Render segments, true if all properties were present.
+     */
+    private static boolean render(List < Segment > segments, Function<String, String> properties, StringBuilder sb) {
+        boolean complete = true;
+        for (Segment segment : segments) {
+            complete &= segment.render(properties, sb);
+        }
+        return complete;
+    }
+
+    /**
+     * Render label.
+     *
+     * @param properties
+     *      value of a property as a string, null if missing
+     * @return
+     *      label or null if nothing to display
+     */
+    public String render(Function<String, String> properties) {
+        StringBuilder sb = new StringBuilder();
+        render(segments, properties, sb);
+        String label = sb.toString().trim();
+        return label.isEmpty() ? null : label;
+    }
+
+    /**
+     * Getter accessor for attribute 'propertyNames'.
+     *
+     * @return
+     *       current value of 'propertyNames'
+     */
+    public Set<String> getPropertyNames() {
+        return Collections.unmodifiableSet(propertyNames);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    /**
+     * Part of a template.
+     */
+    @FunctionalInterface
+    private interface Segment {
+
+        /**
+         * Append value, false if a property was missing.
+         */
+        boolean render(Function<String, String> properties, StringBuilder sb);
+    }
+
+}
@@ -1,30 +1,36 @@
 package com.datastax.yasa.ui.model;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 
 /**
  * Will be able to display graph in JSON as expected by VizJS.
+ * 
+ * Nodes and edges are indexed by identifier, duplicates are ignored (first one wins).
  *
  * @author Cedrick LUNVEN (@clunven)
  */
-public class VizJsGraph implements Serializable {
+public class VizJsGraph implements GraphSink, Serializable {
     
     /** Serial. */
     private static final long serialVersionUID = 7241829478693348585L;
 
-    /** Nodes. */
-    private List < GraphVertex > nodes = new ArrayList<>();
+    /** Nodes per id. */
+    private final LinkedHashMap < String, GraphVertex > nodes = new LinkedHashMap<>();
     
-    /** Edges. */
-    private List < GraphEdge > edges = new ArrayList<>();
-    
-    /** Some queries return only object no edges nor
-    private List <String > values = new ArrayList<>();
+    /** Edges per id (or source and destination). */
+    private final LinkedHashMap < String, GraphEdge > edges = new LinkedHashMap<>();
     
     /** Opions. */
-    private GraphOption options = new GraphOption();
+    private GraphOption options = GraphOption.DEFAULT;
+    
+    /** Token to load the next slice of the graph, null when the graph is complete. */
+    private String continuation;
+    
+    /** Set when an expansion stopped before reaching all vertices, see {@link GraphVertex#getTruncated()}. */
+    private Boolean truncated;
     
     /**
      * Adding node.
@@ -34,9 +40,10 @@ public class VizJsGraph implements Serializable {
      * @return
      *      current bean
      */
+    @Override
     public VizJsGraph addVertex(GraphVertex node) {
         if (node != null) {
-            getNodes().add(node);
+            nodes.putIfAbsent(node.getId(), node);
         }
         return this;
     }
@@ -49,12 +56,25 @@ public class VizJsGraph implements Serializable {
      * @return
      *      current bean
      */
+    @Override
     public VizJsGraph addEdge(GraphEdge edge) {
         if (edge != null) {
-            getEdges().add(edge);
+            edges.putIfAbsent(key(edge), edge);
         }
         return this;
     }
+    
+    /**
+     * Identity of an edge.
+     *
+     * @param edge
+     *      graph edge
+     * @return
+     *      its id or source and destination when no id
+     */
+    static String key(GraphEdge edge) {
+        return (edge.getId() != null) ? edge.getId() : edge.getFrom() + "->" + edge.getTo();
+    }
 
     /**
      * Getter accessor for attribute 'options'.
@@ -75,14 +95,52 @@ public class VizJsGraph implements Serializable {
         this.options = options;
     }
 
+    /**
+     * Getter accessor for attribute 'continuation'.
+     *
+     * @return
+     *       current value of 'continuation'
+     */
+    public String getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * Setter accessor for attribute 'continuation'.
+     * @param continuation
+     * 		new value for 'continuation '
+     */
+    public void setContinuation(String continuation) {
+        this.continuation = continuation;
+    }
+
+    /**
+     * Getter accessor for attribute 'truncated'.
+     *
+     * @return
+     *       current value of 'truncated'
+     */
+    public Boolean getTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Setter accessor for attribute 'truncated'.
+     * @param truncated
+     * 		new value for 'truncated '
+     */
+    public void setTruncated(Boolean truncated) {
+        this.truncated = truncated;
+    }
+
     /**
      * Getter accessor for attribute 'edges'.
      *
      * @return
      *       current value of 'edges'
      */
-    public List<GraphEdge> getEdges() {
-        return edges;
+    public Collection<GraphEdge> getEdges() {
+        return Collections.unmodifiableCollection(edges.values());
     }
 
     /**
@@ -90,8 +148,9 @@ public class VizJsGraph implements Serializable {
      * @param edges
      * 		new value for 'edges '
      */
-    public void setEdges(List<GraphEdge> edges) {
-        this.edges = edges;
+    public void setEdges(Collection<GraphEdge> edges) {
+        this.edges.clear();
+        edges.forEach(this::addEdge);
     }
 
     /**
@@ -100,8 +159,8 @@ public class VizJsGraph implements Serializable {
      * @return
      *       current value of 'nodes'
      */
-    public List<GraphVertex> getNodes() {
-        return nodes;
+    public Collection<GraphVertex> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
     }
 
     /**
@@ -109,8 +168,9 @@ public class VizJsGraph implements Serializable {
      * @param nodes
      * 		new value for 'nodes '
      */
-    public void setNodes(List<GraphVertex> nodes) {
-        this.nodes = nodes;
+    public void setNodes(Collection<GraphVertex> nodes) {
+        this.nodes.clear();
+        nodes.forEach(this::addVertex);
     }
 
     
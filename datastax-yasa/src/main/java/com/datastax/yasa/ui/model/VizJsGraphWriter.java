@@ -0,0 +1,119 @@
+package com.datastax.yasa.ui.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.datastax.yasa.dse.utils.LongHashSet;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Write the JSON expected by VizJS, same as a serialized {@link VizJsGraph}, while vertices and edges
+ * are received: only a 64 bits hash per element is kept to skip duplicates. Vertices must be written
+ * before edges.
+ *
+ * @author DataStax evangelist team.
+ */
+public class VizJsGraphWriter implements GraphSink {
+
+    /** Output is flushed every time this number of elements has been written. */
+    private static final int FLUSH_EVERY = 100;
+
+    /** Target, must have a codec to write beans (created from an ObjectMapper). */
+    private final JsonGenerator generator;
+
+    /** Opions. */
+    private final GraphOption options = GraphOption.DEFAULT;
+    
+    /** Hashes of elements already written. */
+    private final LongHashSet nodeHashes = new LongHashSet(1024);
+    private final LongHashSet edgeHashes = new LongHashSet(1024);
+
+    /** Nodes array has been closed. */
+    private boolean edgesStarted = false;
+
+    /** Number of elements written. */
+    private long count = 0;
+
+    /**
+     * Start writing.
+     *
+     * @param generator
+     *      target generator
+     * @throws IOException
+     *      cannot write
+     */
+    public VizJsGraphWriter(JsonGenerator generator)
+    throws IOException {
+        this.generator = generator;
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("nodes");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized VizJsGraphWriter addVertex(GraphVertex node) {
+        if (node != null && (node.getId() == null || nodeHashes.add(GraphIds.hash(node.getId())))) {
+            if (edgesStarted) {
+                throw new IllegalStateException("Vertices must be written before edges");
+            }
+            write(node);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized VizJsGraphWriter addEdge(GraphEdge edge) {
+        if (edge != null && edgeHashes.add(GraphIds.hash(VizJsGraph.key(edge)))) {
+            startEdges();
+            write(edge);
+        }
+        return this;
+    }
+
+    /**
+     * Close arrays and object, to be called once all elements have been written. Underlying stream
+     * is flushed but not closed.
+     *
+     * @throws IOException
+     *      cannot write
+     */
+    public synchronized void finish()
+    throws IOException {
+        startEdges();
+        generator.writeEndArray();
+        generator.writeObjectField("options", options);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * Close the nodes array and open the edges one.
+     */
+    private void startEdges() {
+        if (!edgesStarted) {
+            try {
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("edges");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            edgesStarted = true;
+        }
+    }
+
+    /**
+     * First element is sent right away, then by groups.
+     */
+    private void write(Object element) {
+        try {
+            generator.writeObject(element);
+            if (count++ % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
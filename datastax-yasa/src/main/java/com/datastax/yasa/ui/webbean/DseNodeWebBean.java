@@ -22,6 +22,13 @@ public class DseNodeWebBean {
     
     /** cassandra. */
     private Set < String > workloads = new HashSet<>();
+    
+    /** Connections of the session to the node. */
+    private int openConnections;
+    private int trashedConnections;
+    
+    /** Requests sent to the node and not yet answered. */
+    private int inFlightQueries;
    
     /**
      * Getter accessor for attribute 'hostname'.
@@ -118,4 +125,61 @@ public class DseNodeWebBean {
         this.workloads = workloads;
     }
 
+    /**
+     * Getter accessor for attribute 'openConnections'.
+     *
+     * @return
+     *       current value of 'openConnections'
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * Setter accessor for attribute 'openConnections'.
+     * @param openConnections
+     * 		new value for 'openConnections '
+     */
+    public void setOpenConnections(int openConnections) {
+        this.openConnections = openConnections;
+    }
+
+    /**
+     * Getter accessor for attribute 'trashedConnections'.
+     *
+     * @return
+     *       current value of 'trashedConnections'
+     */
+    public int getTrashedConnections() {
+        return trashedConnections;
+    }
+
+    /**
+     * Setter accessor for attribute 'trashedConnections'.
+     * @param trashedConnections
+     * 		new value for 'trashedConnections '
+     */
+    public void setTrashedConnections(int trashedConnections) {
+        this.trashedConnections = trashedConnections;
+    }
+
+    /**
+     * Getter accessor for attribute 'inFlightQueries'.
+     *
+     * @return
+     *       current value of 'inFlightQueries'
+     */
+    public int getInFlightQueries() {
+        return inFlightQueries;
+    }
+
+    /**
+     * Setter accessor for attribute 'inFlightQueries'.
+     * @param inFlightQueries
+     * 		new value for 'inFlightQueries '
+     */
+    public void setInFlightQueries(int inFlightQueries) {
+        this.inFlightQueries = inFlightQueries;
+    }
+
 }
@@ -1,7 +1,11 @@
 package com.datastax.yasa.ui.webbean;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import com.datastax.yasa.dse.dto.RequestMetrics;
 
 /**
  * Web Bean to display some information from.
@@ -32,6 +36,12 @@ public class HomeWebBean {
     /** list of nodes. */
     private List < DseNodeWebBean > dseNodeList = new ArrayList<>();
     
+    /** Latencies by type of request, empty if metrics are disabled. */
+    private List < RequestMetrics > requestMetrics = new ArrayList<>();
+    
+    /** Errors and retries of the driver, empty if metrics are disabled. */
+    private Map < String, Long > driverErrors = new LinkedHashMap<>();
+    
     /**
      * Getter accessor for attribute 'clusterName'.
      *
@@ -316,5 +326,43 @@ public class HomeWebBean {
     public void setQueryRefreshSchemaPendingRequest(int queryRefreshSchemaPendingRequest) {
         this.queryRefreshSchemaPendingRequest = queryRefreshSchemaPendingRequest;
     }
+
+    /**
+     * Getter accessor for attribute 'requestMetrics'.
+     *
+     * @return
+     *       current value of 'requestMetrics'
+     */
+    public List<RequestMetrics> getRequestMetrics() {
+        return requestMetrics;
+    }
+
+    /**
+     * Setter accessor for attribute 'requestMetrics'.
+     * @param requestMetrics
+     * 		new value for 'requestMetrics '
+     */
+    public void setRequestMetrics(List<RequestMetrics> requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    /**
+     * Getter accessor for attribute 'driverErrors'.
+     *
+     * @return
+     *       current value of 'driverErrors'
+     */
+    public Map<String, Long> getDriverErrors() {
+        return driverErrors;
+    }
+
+    /**
+     * Setter accessor for attribute 'driverErrors'.
+     * @param driverErrors
+     * 		new value for 'driverErrors '
+     */
+    public void setDriverErrors(Map<String, Long> driverErrors) {
+        this.driverErrors = driverErrors;
+    }
     
-}
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.datastax.yasa.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with fixed buckets from 0.5 ms to 10 s (1, 2.5, 5 per decade), recorded without locks:
+ * one {@link LongAdder} per bucket. Counts are cumulative since start, as expected by Prometheus.
+ *
+ * @author DataStax evangelist team.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds of buckets in microseconds, last bucket is unbounded. */
+    private static final long[] BOUNDS_MICROS = {
+            500, 1000, 2500, 5000, 10000, 25000, 50000, 100000,
+            250000, 500000, 1000000, 2500000, 5000000, 10000000 };
+
+    /** Same bounds in nanoseconds, latencies are compared without rounding. */
+    private static final long[] BOUNDS_NANOS = Arrays.stream(BOUNDS_MICROS).map(micros -> micros * 1000).toArray();
+
+    /** Latencies in each bucket (not cumulative). */
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MICROS.length + 1];
+
+    /** Sum of latencies. */
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * Empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int idx = 0; idx < buckets.length; idx++) {
+            buckets[idx] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos
+     *      latency in nanoseconds
+     */
+    public void record(long nanos) {
+        int idx = Arrays.binarySearch(BOUNDS_NANOS, nanos);
+        buckets[idx >= 0 ? idx : -idx - 1].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Upper bounds of buckets, the last bucket has no bound.
+     *
+     * @return
+     *      bounds in seconds
+     */
+    public static double[] getBoundsSeconds() {
+        double[] bounds = new double[BOUNDS_MICROS.length];
+        for (int idx = 0; idx < bounds.length; idx++) {
+            bounds[idx] = BOUNDS_MICROS[idx] / 1000000d;
+        }
+        return bounds;
+    }
+
+    /**
+     * Cumulative counts: latencies lower or equal to each bound, the last one is the total count.
+     *
+     * @return
+     *      one count per bound plus the total
+     */
+    public long[] getCumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int idx = 0; idx < buckets.length; idx++) {
+            total += buckets[idx].sum();
+            counts[idx] = total;
+        }
+        return counts;
+    }
+
+    /**
+     * Sum of latencies.
+     *
+     * @return
+     *      sum in nanoseconds
+     */
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+}
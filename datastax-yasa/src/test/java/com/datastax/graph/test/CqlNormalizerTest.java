@@ -0,0 +1,50 @@
+package com.datastax.graph.test;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.utils.CqlNormalizer;
+import com.datastax.yasa.dse.utils.CqlNormalizer.NormalizedQuery;
+
+/**
+ * Extraction of literals from ad-hoc queries (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class CqlNormalizerTest {
+
+    @Test
+    public void extractLiterals() {
+        NormalizedQuery nq = CqlNormalizer.normalize(
+                "SELECT name, city FROM evangelists.conferences\r\n WHERE id = 'o''neil' AND year > -2019 LIMIT 50;");
+        Assertions.assertEquals("SELECT name, city FROM evangelists.conferences WHERE id = ? AND year > ? LIMIT ?", nq.getCql());
+        Assertions.assertEquals(Arrays.asList("'o''neil'", "-2019", "50"), nq.getLiterals());
+    }
+
+    @Test
+    public void sameShapeSameQuery() {
+        Assertions.assertEquals(
+                CqlNormalizer.normalize("select * from t where id = 1").getCql(),
+                CqlNormalizer.normalize("select *   from t where id = 2").getCql());
+    }
+
+    @Test
+    public void uuidBlobsCollectionsAndIdentifiers() {
+        NormalizedQuery nq = CqlNormalizer.normalize("INSERT INTO \"Ks1\".t2(a,b,c) "
+                + "VALUES (a1b2c3d4-e89b-12d3-a456-426655440000, {'k': 0xCAFE}, $$it's$$) USING TTL 100");
+        Assertions.assertEquals("INSERT INTO \"Ks1\".t2(a,b,c) VALUES (?, {?: ?}, ?) USING TTL ?", nq.getCql());
+        Assertions.assertEquals(Arrays.asList("a1b2c3d4-e89b-12d3-a456-426655440000",
+                "'k'", "0xCAFE", "'it''s'", "100"), nq.getLiterals());
+    }
+
+    @Test
+    public void notEligible() {
+        Assertions.assertNull(CqlNormalizer.normalize("CREATE TABLE t(id int PRIMARY KEY)"));
+        Assertions.assertNull(CqlNormalizer.normalize("SELECT * FROM t WHERE id = ?"));
+        Assertions.assertNull(CqlNormalizer.normalize("SELECT * FROM t WHERE id = :id"));
+        Assertions.assertNull(CqlNormalizer.normalize("SELECT * FROM t WHERE id = 'unterminated"));
+    }
+
+}
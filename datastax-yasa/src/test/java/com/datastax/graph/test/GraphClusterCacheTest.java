@@ -0,0 +1,57 @@
+package com.datastax.graph.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.cache.GraphClusterCache;
+import com.datastax.yasa.ui.model.GraphVertex;
+import com.datastax.yasa.ui.model.VizJsGraph;
+
+/**
+ * Cache of clusters graphs (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class GraphClusterCacheTest {
+
+    @Test
+    public void hitMissAndInvalidate() {
+        GraphClusterCache cache = new GraphClusterCache(100, 60);
+        VizJsGraph cluster = new VizJsGraph().addVertex(new GraphVertex().id("a"));
+        Assertions.assertNull(cache.get("g1", "c1"));
+        cache.put("g1", "c1", cluster);
+        cache.put("g2", "c1", cluster);
+        Assertions.assertSame(cluster, cache.get("g1", "c1"));
+        cache.invalidate("g1");
+        Assertions.assertNull(cache.get("g1", "c1"));
+        Assertions.assertSame(cluster, cache.get("g2", "c1"));
+        Assertions.assertEquals(2, cache.getStatistics().get("hits").longValue());
+        Assertions.assertEquals(2, cache.getStatistics().get("misses").longValue());
+        Assertions.assertEquals(1, cache.getStatistics().get("size").longValue());
+    }
+
+    @Test
+    public void readBeforeInvalidationIsNotCached() {
+        GraphClusterCache cache = new GraphClusterCache(100, 60);
+        VizJsGraph cluster = new VizJsGraph().addVertex(new GraphVertex().id("a"));
+        long generation = cache.generation("g1");
+        cache.invalidate("g1");
+        cache.put("g1", "c1", generation, cluster);
+        Assertions.assertNull(cache.get("g1", "c1"));
+        cache.put("g1", "c1", cache.generation("g1"), cluster);
+        Assertions.assertSame(cluster, cache.get("g1", "c1"));
+    }
+
+    @Test
+    public void boundedByWeight() {
+        GraphClusterCache cache = new GraphClusterCache(10, 60);
+        VizJsGraph big = new VizJsGraph();
+        for (int i = 0; i < 20; i++) {
+            big.addVertex(new GraphVertex().id("v" + i));
+        }
+        cache.put("g1", "big", big);
+        Assertions.assertNull(cache.get("g1", "big"));
+        Assertions.assertEquals(1, cache.getStatistics().get("evictions").longValue());
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.datastax.graph.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.dto.GraphSliceToken;
+import com.datastax.yasa.dse.dto.GraphSliceToken.Strategy;
+
+/**
+ * Continuation tokens of progressive graph loading (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class GraphSliceTokenTest {
+
+    @Test
+    public void roundTrip() {
+        GraphSliceToken next = GraphSliceToken.fromString(GraphSliceToken.byLabel("c360|prod", "customer|vip", "id", 50).next("a|b").toString());
+        Assertions.assertEquals("c360|prod", next.getGraphName());
+        Assertions.assertEquals(Strategy.LABEL, next.getStrategy());
+        Assertions.assertEquals("customer|vip", next.getLabel());
+        Assertions.assertEquals("id", next.getKey());
+        Assertions.assertEquals("a|b", next.getAfter());
+        Assertions.assertEquals(50, next.getSize());
+        Assertions.assertEquals(42L, GraphSliceToken.fromString(GraphSliceToken.byLabel("c360", "cluster", "id", 5).next(42).toString()).getAfter());
+        Assertions.assertNull(GraphSliceToken.fromString(GraphSliceToken.sample("c360", null, 5).toString()).getLabel());
+    }
+
+    @Test
+    public void chainedLabels() {
+        GraphSliceToken next = GraphSliceToken.fromString(GraphSliceToken.byLabels("c360", "cluster", "cluster_id", 50).next(7).toString());
+        Assertions.assertTrue(next.isChained());
+        GraphSliceToken following = GraphSliceToken.fromString(next.following("customer", "src_customer_id").toString());
+        Assertions.assertTrue(following.isChained());
+        Assertions.assertEquals("customer", following.getLabel());
+        Assertions.assertEquals("src_customer_id", following.getKey());
+        Assertions.assertNull(following.getAfter());
+        Assertions.assertFalse(GraphSliceToken.fromString(GraphSliceToken.byLabel("c360", "cluster", "cluster_id", 50).toString()).isChained());
+    }
+
+    @Test
+    public void sampleReadsWindows() {
+        GraphSliceToken first = GraphSliceToken.sample("c360", null, 20);
+        Assertions.assertEquals(20 * GraphSliceToken.SAMPLE_WINDOW, first.getEnd());
+        Assertions.assertEquals(first.getEnd(), first.next(null).getOffset());
+    }
+
+    @Test
+    public void invalidTokens() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GraphSliceToken.fromString("not a token"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Strategy.parse("degree"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GraphSliceToken.byLabel("c360", "customer", null, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GraphSliceToken.sample(null, null, 10));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.datastax.graph.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.utils.GremlinExpression;
+
+/**
+ * Queries wrapped in scripts only when they are a single expression (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class GremlinExpressionTest {
+
+    @Test
+    public void singleExpressions() {
+        Assertions.assertEquals("g.V().has('name', 'a;b').limit(10)", GremlinExpression.singleExpression(" g.V().has('name', 'a;b').limit(10);; "));
+        Assertions.assertEquals("g.V()\n .hasLabel('customer')\n .limit(10)", GremlinExpression.singleExpression("g.V()\n .hasLabel('customer')\n .limit(10)"));
+        Assertions.assertNotNull(GremlinExpression.singleExpression("g.V().map { it.get(); it.get() }"));
+    }
+
+    @Test
+    public void statements() {
+        Assertions.assertNull(GremlinExpression.singleExpression("def x = g.V().limit(2); x"));
+        Assertions.assertNull(GremlinExpression.singleExpression("x = g.V().limit(2)\nx"));
+        Assertions.assertNull(GremlinExpression.singleExpression("g.V().limit(2); g.E().limit(2)"));
+        Assertions.assertNull(GremlinExpression.singleExpression("g.V() // all"));
+        Assertions.assertNull(GremlinExpression.singleExpression("g.V().has('name', 'a)"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.datastax.graph.test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.ui.conf.HttpMetrics;
+import com.datastax.yasa.utils.LatencyHistogram;
+
+/**
+ * Latencies of HTTP requests exported for Prometheus (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class HttpMetricsTest {
+
+    @Test
+    public void cumulativeBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(200));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1) + 900);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(30));
+        histogram.record(TimeUnit.SECONDS.toNanos(60));
+        long[] counts = histogram.getCumulativeCounts();
+        Assertions.assertEquals(LatencyHistogram.getBoundsSeconds().length + 1, counts.length);
+        Assertions.assertEquals(1, counts[0]);
+        Assertions.assertEquals(2, counts[1]);
+        Assertions.assertEquals(3, counts[2]);
+        Assertions.assertEquals(3, counts[5]);
+        Assertions.assertEquals(4, counts[6]);
+        Assertions.assertEquals(4, counts[counts.length - 2]);
+        Assertions.assertEquals(5, counts[counts.length - 1]);
+    }
+
+    @Test
+    public void exportPrometheusText() {
+        HttpMetrics metrics = new HttpMetrics();
+        metrics.record("HomeController.get", HttpMetrics.PHASE_DAO, TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.record("HomeController.get", HttpMetrics.PHASE_RENDER, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.error("HomeController.get");
+        StringBuilder out = new StringBuilder();
+        metrics.writePrometheus(out);
+        String text = out.toString();
+        Assertions.assertTrue(text.contains("# TYPE yasa_http_request_duration_seconds histogram\n"));
+        Assertions.assertTrue(text.contains("yasa_http_request_duration_seconds_bucket{handler=\"HomeController.get\",phase=\"dao\",le=\"0.025\"} 1\n"));
+        Assertions.assertTrue(text.contains("yasa_http_request_duration_seconds_bucket{handler=\"HomeController.get\",phase=\"dao\",le=\"0.01\"} 0\n"));
+        Assertions.assertTrue(text.contains("yasa_http_request_duration_seconds_count{handler=\"HomeController.get\",phase=\"render\"} 1\n"));
+        Assertions.assertTrue(text.contains("yasa_http_errors_total{handler=\"HomeController.get\"} 1\n"));
+        Assertions.assertEquals("a\\\"b\\\\", HttpMetrics.escape("a\"b\\"));
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.datastax.graph.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.utils.LoadJournal;
+
+/**
+ * Checkpoints of loads used to resume them (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class LoadJournalTest {
+
+    @Test
+    public void resumeCompletedRanges() throws IOException {
+        File source = File.createTempFile("yasa", ".csv");
+        source.deleteOnExit();
+        Files.write(source.toPath(), "cluster_id\nc1\nc2\n".getBytes(StandardCharsets.UTF_8));
+        File journalFile = new File(source.getPath() + ".journal");
+        journalFile.deleteOnExit();
+
+        try (LoadJournal journal = new LoadJournal(journalFile, source, 100, false)) {
+            journal.complete(11, 14, 1);
+        }
+        // Crash while writing the next range
+        Files.write(journalFile.toPath(), "range 14 1".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (LoadJournal journal = new LoadJournal(journalFile, source, 100, true)) {
+            Assertions.assertEquals(1, journal.completedLines(11, 14));
+            Assertions.assertEquals(-1, journal.completedLines(14, 17));
+            journal.complete(14, 17, 1);
+        }
+        try (LoadJournal journal = new LoadJournal(journalFile, source, 100, true)) {
+            Assertions.assertEquals(1, journal.completedLines(14, 17));
+        }
+        // Other range size, or not resuming: start over
+        try (LoadJournal journal = new LoadJournal(journalFile, source, 200, true)) {
+            Assertions.assertEquals(-1, journal.completedLines(11, 14));
+        }
+        try (LoadJournal journal = new LoadJournal(journalFile, source, 200, false)) {
+            Assertions.assertEquals(-1, journal.completedLines(11, 14));
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.datastax.graph.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.dse.utils.MappedCsvReader;
+
+/**
+ * Parallel parsing of CSV files (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class MappedCsvReaderTest {
+
+    @Test
+    public void parseLinesInParallel() throws IOException {
+        StringBuilder csv = new StringBuilder("cluster_id;name;dob\r\n");
+        for (int i = 0; i < 100000; i++) {
+            csv.append("c").append(i).append(";\"Doe; \"\"J\"\" ").append(i).append("\";").append(i % 2 == 0 ? "1980-01-02" : "").append("\r\n");
+        }
+        File file = File.createTempFile("yasa", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        MappedCsvReader reader = new MappedCsvReader(file, ';', 4);
+        Assertions.assertEquals(Arrays.asList("cluster_id", "name", "dob"), reader.getHeader());
+        Assertions.assertEquals(-1, reader.columnIndex("unknown"));
+        int name = reader.columnIndex("name");
+        int dob  = reader.columnIndex("dob");
+        Map<String, String> names = new ConcurrentHashMap<>();
+        Map<String, Boolean> dobs = new ConcurrentHashMap<>();
+        Assertions.assertEquals(100000, reader.read(row -> {
+            names.put(row.get(0), row.get(name));
+            dobs.put(row.get(0), row.hasValue(dob));
+        }));
+        Assertions.assertEquals(100000, names.size());
+        Assertions.assertEquals("Doe; \"J\" 77", names.get("c77"));
+        Assertions.assertTrue(dobs.get("c2"));
+        Assertions.assertFalse(dobs.get("c3"));
+    }
+
+}
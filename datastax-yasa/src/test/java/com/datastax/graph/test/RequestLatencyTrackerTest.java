@@ -0,0 +1,46 @@
+package com.datastax.graph.test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.codahale.metrics.MetricRegistry;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.yasa.dse.utils.RequestLatencyTracker;
+import com.datastax.yasa.dse.utils.RequestLatencyTracker.RequestType;
+
+/**
+ * Latencies by type of request (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class RequestLatencyTrackerTest {
+
+    @Test
+    public void classifyStatements() {
+        Assertions.assertEquals(RequestType.CQL, RequestLatencyTracker.classify(new SimpleStatement("SELECT * FROM ks.t")));
+        Assertions.assertEquals(RequestType.SCHEMA, RequestLatencyTracker.classify(new SimpleStatement("  create TABLE ks.t (id int PRIMARY KEY)")));
+        Assertions.assertEquals(RequestType.SCHEMA, RequestLatencyTracker.classify(new SimpleStatement("DROP KEYSPACE ks")));
+        Statement graph = new SimpleStatement("g.V().count()")
+                .setOutgoingPayload(Collections.singletonMap("graph-language", ByteBuffer.wrap("gremlin-groovy".getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertEquals(RequestType.GRAPH, RequestLatencyTracker.classify(graph));
+    }
+
+    @Test
+    public void recordLatenciesAndErrors() {
+        MetricRegistry registry = new MetricRegistry();
+        RequestLatencyTracker tracker = new RequestLatencyTracker(registry);
+        tracker.update(null, new SimpleStatement("SELECT * FROM ks.t"), null, TimeUnit.MILLISECONDS.toNanos(3));
+        tracker.update(null, new SimpleStatement("SELECT * FROM ks.t"), new IllegalStateException(), TimeUnit.MILLISECONDS.toNanos(5));
+        Assertions.assertEquals(2, registry.timer("requests.cql").getCount());
+        Assertions.assertEquals(1, registry.counter("requests.cql.errors").getCount());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(8), registry.counter("requests.cql.nanos").getCount());
+        Assertions.assertEquals(0, registry.timer("requests.graph").getCount());
+    }
+
+}
@@ -70,6 +70,6 @@ public class SampleGraphDaoTestIt extends AbstractDseTest {
     public void testLoadGraph() {
         File f = new File("src/test/resources/golden.csv");
         Assert.assertTrue(f.exists());
-        c360Dao.loadClustersAndCustomers(f, ',');
+        Assert.assertEquals(0, c360Dao.loadClustersAndCustomers(f, ',').getRowsFailed());
     }
 }
@@ -0,0 +1,48 @@
+package com.datastax.graph.test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.yasa.ui.model.VertexLabelRegistry;
+import com.datastax.yasa.ui.model.VertexLabelTemplate;
+
+/**
+ * Display labels of vertices (no need for DSE).
+ *
+ * @author DataStax Evangelist Team
+ */
+public class VertexLabelTemplateTest {
+
+    @Test
+    public void optionalSection() {
+        VertexLabelTemplate template = new VertexLabelTemplate("{agreement_id}[ ({sys_apl})]");
+        Map<String, String> properties = new HashMap<>();
+        properties.put("agreement_id", "A1");
+        Assertions.assertEquals("A1", template.render(properties::get));
+        properties.put("sys_apl", "APL");
+        Assertions.assertEquals("A1 (APL)", template.render(properties::get));
+    }
+
+    @Test
+    public void fallbackOnVertexLabel() {
+        Map<String, String> templates = new HashMap<>();
+        templates.put("Customer", "{surname} {firstname}");
+        VertexLabelRegistry registry = new VertexLabelRegistry(templates);
+        Map<String, String> properties = new HashMap<>();
+        Assertions.assertEquals("customer", registry.render("customer", properties::get));
+        Assertions.assertEquals("vehicule", registry.render("vehicule", properties::get));
+        properties.put("firstname", "Ada");
+        Assertions.assertEquals("Ada", registry.render("customer", properties::get));
+        Assertions.assertEquals(2, registry.getDisplayProperties().get("customer").size());
+    }
+
+    @Test
+    public void invalidTemplate() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VertexLabelTemplate("{surname"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VertexLabelTemplate("[{surname}"));
+    }
+
+}